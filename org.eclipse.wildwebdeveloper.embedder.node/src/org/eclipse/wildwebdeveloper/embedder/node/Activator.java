@@ -33,10 +33,13 @@ public class Activator extends Plugin {
 	public void start(BundleContext context) throws Exception {
 		super.start(context);
 		plugin = this;
+		ShellEnvironment.getAsync();
+		NodeJSRuntimeResolver.prewarm();
 	}
 
 	@Override
 	public void stop(BundleContext context) throws Exception {
+		NodeJSRuntimeResolver.dispose();
 		plugin = null;
 		super.stop(context);
 	}
@@ -16,9 +16,19 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URL;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.compress.archivers.ArchiveEntry;
 import org.apache.commons.compress.archivers.ArchiveInputStream;
@@ -31,7 +41,38 @@ import org.apache.commons.compress.compressors.xz.XZCompressorInputStream;
 import org.apache.commons.io.IOUtils;
 
 public class CompressUtils {
+
+    /**
+     * Default number of threads writing the extracted entries to disk.
+     */
+    public static final int DEFAULT_WRITER_THREADS = Math.max(2,
+            Math.min(8, Runtime.getRuntime().availableProcessors()));
+
+    /*
+     * Entries bigger than this are written by the decompressing thread itself
+     * instead of being buffered in memory for a writer thread. Together with the
+     * bounded work queue this caps the memory used by an extraction.
+     */
+    private static final long MAX_BUFFERED_ENTRY_SIZE = 1024 * 1024;
+
     public static void unarchive(URL archiveURL, File baseDir) throws IOException {
+        unarchive(archiveURL, baseDir, DEFAULT_WRITER_THREADS);
+    }
+
+    /**
+     * Extracts the zip/tar.gz/tar.xz archive to the given folder. One thread
+     * decompresses the archive while up to <code>writerThreads</code> threads
+     * create the directories, files and symbolic links and set their permissions.
+     *
+     * @param archiveURL
+     *                      archive to extract
+     * @param baseDir
+     *                      destination folder
+     * @param writerThreads
+     *                      number of threads writing to disk, 1 extracts
+     *                      everything on the calling thread
+     */
+    public static void unarchive(URL archiveURL, File baseDir, int writerThreads) throws IOException {
         if (archiveURL == null || baseDir == null) {
             return;
         }
@@ -49,7 +90,13 @@ public class CompressUtils {
                 throw new UnsupportedCompressionAlgorithmException("Unsupported archive file extension: " + archive); //$NON-NLS-1$
             }
             try {
-                extractArchive(archive, baseDir);
+                if (writerThreads <= 1) {
+                    extractArchive(archive, baseDir);
+                } else {
+                    extractArchive(archive, baseDir, writerThreads);
+                }
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
             } finally {
                 IOUtils.closeQuietly(archive);
             }
@@ -68,35 +115,136 @@ public class CompressUtils {
      */
     private static void extractArchive(ArchiveInputStream<?> in, File destination) throws IOException {
         ArchiveEntry entry = null;
+        List<TarArchiveEntry> symlinks = new ArrayList<>();
         while ((entry = in.getNextEntry()) != null) {
             if (!in.canReadEntryData(entry)) {
                 // log something?
                 continue;
             }
             File f = new File(destination, entry.getName());
-            f.delete();
-            boolean symlink = entry instanceof TarArchiveEntry tarEntry && tarEntry.isSymbolicLink();
             if (entry.isDirectory()) {
-                if (!f.isDirectory() && !f.mkdirs()) {
-                    throw new IOException("failed to create directory " + f);
-                }
+                createDirectory(f);
+            } else if (entry instanceof TarArchiveEntry tarEntry && tarEntry.isSymbolicLink()) {
+                symlinks.add(tarEntry);
             } else {
-                File parent = f.getParentFile();
-                if (!parent.isDirectory() && !parent.mkdirs()) {
-                    throw new IOException("failed to create directory " + parent);
+                createDirectory(f.getParentFile());
+                try (OutputStream o = Files.newOutputStream(f.toPath())) {
+                    in.transferTo(o);
+                }
+                setPermissions(f, entry);
+            }
+        }
+        for (TarArchiveEntry symlink : symlinks) {
+            createSymbolicLink(new File(destination, symlink.getName()), symlink);
+        }
+    }
+
+    /**
+     * Same as {@link #extractArchive(ArchiveInputStream, File)} but hands the
+     * file system work over to a bounded pool of writer threads. When the pool
+     * is saturated the decompressing thread writes the entry itself, which
+     * throttles decompression to the speed of the disk.
+     */
+    private static void extractArchive(ArchiveInputStream<?> in, File destination, int writerThreads)
+            throws IOException {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor writers = new ThreadPoolExecutor(writerThreads, writerThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(writerThreads * 4), runnable -> {
+                    Thread thread = new Thread(runnable,
+                            "Node.js archive writer " + threadCount.incrementAndGet()); //$NON-NLS-1$
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+        List<Future<?>> pending = new ArrayList<>();
+        List<TarArchiveEntry> symlinks = new ArrayList<>();
+        try {
+            ArchiveEntry entry = null;
+            while ((entry = in.getNextEntry()) != null) {
+                if (!in.canReadEntryData(entry)) {
+                    continue;
                 }
-                if (symlink) {
-                    String linkName = ((TarArchiveEntry) entry).getLinkName();
-                    Files.createSymbolicLink(f.toPath(), Paths.get(linkName));
+                File f = new File(destination, entry.getName());
+                if (entry.isDirectory()) {
+                    pending.add(writers.submit(() -> createDirectory(f)));
+                } else if (entry instanceof TarArchiveEntry tarEntry && tarEntry.isSymbolicLink()) {
+                    // Links are created once all files exist
+                    symlinks.add(tarEntry);
+                } else if (entry.getSize() >= 0 && entry.getSize() <= MAX_BUFFERED_ENTRY_SIZE) {
+                    byte[] content = in.readNBytes((int) entry.getSize());
+                    ArchiveEntry fileEntry = entry;
+                    pending.add(writers.submit(() -> writeFile(f, content, fileEntry)));
                 } else {
+                    createDirectory(f.getParentFile());
                     try (OutputStream o = Files.newOutputStream(f.toPath())) {
                         in.transferTo(o);
                     }
+                    setPermissions(f, entry);
                 }
-                if (entry instanceof TarArchiveEntry tarEntry) {
-                    f.setExecutable((tarEntry.getMode() & 256) != 0);
-                }
+                pending.removeIf(future -> future.isDone() && get(future));
+            }
+            awaitAll(pending);
+            for (TarArchiveEntry symlink : symlinks) {
+                pending.add(writers.submit(() -> createSymbolicLink(new File(destination, symlink.getName()), symlink)));
             }
+            awaitAll(pending);
+        } finally {
+            writers.shutdownNow();
+        }
+    }
+
+    private static void awaitAll(List<Future<?>> futures) throws IOException {
+        for (Future<?> future : futures) {
+            get(future);
+        }
+        futures.clear();
+    }
+
+    private static boolean get(Future<?> future) {
+        try {
+            future.get();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedIOException(new IOException("Interrupted while extracting archive", e)); //$NON-NLS-1$
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UncheckedIOException ioException) {
+                throw ioException;
+            }
+            throw new UncheckedIOException(new IOException(e.getCause()));
+        }
+    }
+
+    private static void writeFile(File f, byte[] content, ArchiveEntry entry) {
+        try {
+            createDirectory(f.getParentFile());
+            Files.write(f.toPath(), content);
+            setPermissions(f, entry);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void createDirectory(File directory) {
+        if (!directory.isDirectory() && !directory.mkdirs() && !directory.isDirectory()) {
+            throw new UncheckedIOException(new IOException("failed to create directory " + directory));
+        }
+    }
+
+    private static void createSymbolicLink(File f, TarArchiveEntry entry) {
+        try {
+            createDirectory(f.getParentFile());
+            Path link = f.toPath();
+            Files.deleteIfExists(link);
+            Files.createSymbolicLink(link, Paths.get(entry.getLinkName()));
+            setPermissions(f, entry);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void setPermissions(File f, ArchiveEntry entry) {
+        if (entry instanceof TarArchiveEntry tarEntry) {
+            f.setExecutable((tarEntry.getMode() & 256) != 0);
         }
     }
 }
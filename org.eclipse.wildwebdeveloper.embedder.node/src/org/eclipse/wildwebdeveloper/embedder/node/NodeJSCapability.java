@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wildwebdeveloper.embedder.node;
+
+/**
+ * Features of the Node.js runtime that process launchers may depend on, with
+ * the first version providing them.
+ *
+ * @see NodeJSManager#supports(NodeJSCapability)
+ */
+public enum NodeJSCapability {
+
+    /**
+     * <code>--max-old-space-size</code> is accepted in <code>NODE_OPTIONS</code>.
+     */
+    MAX_OLD_SPACE_SIZE(8, 0),
+    /**
+     * The <code>worker_threads</code> module is available without flag.
+     */
+    WORKER_THREADS(12, 0),
+    /**
+     * The on-disk module compile cache, enabled by the
+     * <code>NODE_COMPILE_CACHE</code> environment variable.
+     */
+    COMPILE_CACHE(22, 1);
+
+    private final int major;
+    private final int minor;
+
+    NodeJSCapability(int major, int minor) {
+        this.major = major;
+        this.minor = minor;
+    }
+
+    int getMajor() {
+        return major;
+    }
+
+    int getMinor() {
+        return minor;
+    }
+}
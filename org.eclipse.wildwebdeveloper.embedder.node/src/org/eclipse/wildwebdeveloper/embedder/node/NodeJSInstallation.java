@@ -0,0 +1,280 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wildwebdeveloper.embedder.node;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.ILog;
+
+/**
+ * The embedded Node.js runtime installed into one location.
+ * <p>
+ * Each Node.js version gets its own directory
+ * <code>&lt;location&gt;/&lt;nodeVersion&gt;</code>. The archive is extracted
+ * to a temporary sibling directory which is renamed once the extraction is
+ * complete, and a manifest describing the extracted tree is written last. A
+ * directory holding a manifest is therefore a complete install and checking
+ * for the manifest is enough to reuse it; a directory without one is the
+ * remainder of an interrupted install and gets replaced.
+ * </p>
+ * <p>
+ * Once a version is installed into a location owned by one Eclipse
+ * installation, the directories of the other versions and the tree extracted
+ * directly into the location by the previous releases are deleted. A location
+ * shared by several installations keeps them, since other instances bundling
+ * another version may be running from them.
+ * </p>
+ */
+final class NodeJSInstallation {
+
+    static final String MANIFEST_FILE = ".install-manifest.properties";
+    static final String LOCK_FILE = ".lock";
+
+    private static final String ENTRIES = "entries";
+    private static final String SIZE = "size";
+    private static final String HASH = "sha256";
+    private static final String NODE_VERSION = "nodeVersion";
+
+    private static final String TEMPORARY_DIRECTORY_INFIX = ".tmp-";
+    private static final long STALE_TEMPORARY_DIRECTORY_AGE = TimeUnit.HOURS.toMillis(1);
+
+    private static final Pattern ARCHIVE_VERSION = Pattern.compile("node-v([0-9]+(?:\\.[0-9]+)*)-");
+    // root directory of the archives, extracted directly into the location before
+    private static final Pattern UNVERSIONED_TREE = Pattern.compile("node-v[0-9]+(?:\\.[0-9]+)*-.+");
+
+    private final File location;
+    private final Properties properties;
+    private final String version;
+    private final File directory;
+    private final boolean shared;
+
+    /**
+     * @param shared
+     *                   whether the location is shared by several Eclipse
+     *                   installations, which may bundle other versions
+     */
+    NodeJSInstallation(File location, Properties properties, boolean shared) {
+        this.location = location;
+        this.properties = properties;
+        this.version = getNodeVersion(properties);
+        this.directory = new File(location, version);
+        this.shared = shared;
+    }
+
+    /**
+     * @return the Node.js version of the embedded archive, read from the
+     *         <code>nodeVersion</code> property or else guessed from the archive
+     *         name
+     */
+    static String getNodeVersion(Properties properties) {
+        String version = properties.getProperty(NODE_VERSION);
+        if (version != null && !version.isBlank()) {
+            return version.trim();
+        }
+        Matcher matcher = ARCHIVE_VERSION.matcher(properties.getProperty("archiveFile", ""));
+        return matcher.find() ? matcher.group(1) : "current";
+    }
+
+    File getDirectory() {
+        return directory;
+    }
+
+    File getNodePath() {
+        return new File(directory, properties.getProperty("nodePath"));
+    }
+
+    /**
+     * A single file system access: the manifest is only written once the whole
+     * archive has been extracted.
+     */
+    boolean isInstalled() {
+        return new File(directory, MANIFEST_FILE).isFile();
+    }
+
+    /**
+     * Compares the installed tree against its manifest.
+     *
+     * @return true if the install is complete and was not modified since
+     */
+    boolean verify() {
+        Path manifestFile = directory.toPath().resolve(MANIFEST_FILE);
+        if (!Files.isRegularFile(manifestFile)) {
+            return false;
+        }
+        Properties expected = new Properties();
+        try (InputStream in = Files.newInputStream(manifestFile)) {
+            expected.load(in);
+            Properties actual = computeManifest(directory.toPath());
+            return actual.getProperty(ENTRIES).equals(expected.getProperty(ENTRIES))
+                    && actual.getProperty(SIZE).equals(expected.getProperty(SIZE))
+                    && actual.getProperty(HASH).equals(expected.getProperty(HASH));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Installs the archive unless a verified install already exists. The check
+     * and the install happen while holding a lock on the location, so that
+     * several Eclipse instances sharing the location extract it only once.
+     * Callers must not hold the lock of the same location from this JVM, see
+     * {@link FileChannel#lock()}.
+     */
+    void ensureInstalled(URL archive) throws IOException {
+        Files.createDirectories(location.toPath());
+        try (FileChannel channel = FileChannel.open(location.toPath().resolve(LOCK_FILE), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE)) {
+            FileLock lock = null;
+            try {
+                lock = channel.lock();
+            } catch (IOException e) {
+                // Some (network) file systems do not support locking
+                ILog.get().warn("Cannot lock " + location + ", installing Node.js without lock: " + e.getMessage());
+            }
+            try {
+                if (!isInstalled() || !verify()) {
+                    install(archive);
+                    if (!shared) {
+                        deleteOtherInstalls();
+                    }
+                }
+            } finally {
+                if (lock != null) {
+                    lock.release();
+                }
+            }
+        }
+    }
+
+    /**
+     * Extracts the archive into a temporary directory and moves it into place,
+     * replacing any incomplete or damaged install of the same version.
+     */
+    private void install(URL archive) throws IOException {
+        deleteStaleTemporaryDirectories();
+        Path temporary = Files.createTempDirectory(location.toPath(), version + TEMPORARY_DIRECTORY_INFIX);
+        try {
+            CompressUtils.unarchive(archive, temporary.toFile());
+            Properties manifest = computeManifest(temporary);
+            manifest.setProperty(NODE_VERSION, version);
+            try (OutputStream out = Files.newOutputStream(temporary.resolve(MANIFEST_FILE))) {
+                manifest.store(out, "Embedded Node.js install, do not edit");
+            }
+            if (directory.exists()) {
+                deleteRecursively(directory.toPath());
+            }
+            Files.move(temporary, directory.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            deleteRecursively(temporary);
+        }
+    }
+
+    /*
+     * Temporary directories left over by an install that was killed. Recent ones
+     * may belong to an install still running in another process, so are kept.
+     */
+    private void deleteStaleTemporaryDirectories() {
+        File[] leftovers = location.listFiles(
+                file -> file.isDirectory() && file.getName().contains(TEMPORARY_DIRECTORY_INFIX)
+                        && System.currentTimeMillis() - file.lastModified() > STALE_TEMPORARY_DIRECTORY_AGE);
+        if (leftovers != null) {
+            for (File leftover : leftovers) {
+                try {
+                    deleteRecursively(leftover.toPath());
+                } catch (IOException e) {
+                    // Not worth failing the install for
+                }
+            }
+        }
+    }
+
+    /*
+     * Complete installs of other versions and unversioned trees, only used by
+     * this Eclipse installation. The temporary directories of installs running
+     * in other processes have no manifest and a different name, so are kept.
+     */
+    private void deleteOtherInstalls() {
+        File[] others = location.listFiles(file -> file.isDirectory() && !file.equals(directory)
+                && (new File(file, MANIFEST_FILE).isFile() || UNVERSIONED_TREE.matcher(file.getName()).matches()));
+        if (others != null) {
+            for (File other : others) {
+                try {
+                    deleteRecursively(other.toPath());
+                } catch (IOException e) {
+                    ILog.get().warn("Cannot delete the previous Node.js install " + other + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static Properties computeManifest(Path root) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+        List<Path> entries;
+        try (Stream<Path> walk = Files.walk(root)) {
+            entries = walk.filter(path -> !path.equals(root))
+                    .filter(path -> !path.getFileName().toString().equals(MANIFEST_FILE))
+                    .sorted()
+                    .toList();
+        }
+        long totalSize = 0;
+        for (Path entry : entries) {
+            BasicFileAttributes attributes = Files.readAttributes(entry, BasicFileAttributes.class,
+                    LinkOption.NOFOLLOW_LINKS);
+            long size = attributes.isRegularFile() ? attributes.size() : 0;
+            totalSize += size;
+            String relativePath = root.relativize(entry).toString().replace(File.separatorChar, '/');
+            digest.update((relativePath + ':' + size + '\n').getBytes(StandardCharsets.UTF_8));
+        }
+        Properties manifest = new Properties();
+        manifest.setProperty(ENTRIES, Integer.toString(entries.size()));
+        manifest.setProperty(SIZE, Long.toString(totalSize));
+        manifest.setProperty(HASH, HexFormat.of().formatHex(digest.digest()));
+        return manifest;
+    }
+
+    private static void deleteRecursively(Path root) throws IOException {
+        if (!Files.exists(root, LinkOption.NOFOLLOW_LINKS)) {
+            return;
+        }
+        try (Stream<Path> walk = Files.walk(root)) {
+            for (Path path : walk.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
@@ -16,7 +16,6 @@
  *******************************************************************************/
 package org.eclipse.wildwebdeveloper.embedder.node;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -41,9 +40,13 @@ import org.osgi.service.prefs.BackingStoreException;
 
 public class NodeJSManager {
     public static final String NODE_ROOT_DIRECTORY = ".node";
+    /**
+     * System property overriding the per-user directory the embedded Node.js is
+     * installed into, an empty value disables the shared installation.
+     */
+    public static final String SHARED_LOCATION_PROPERTY = "org.eclipse.wildwebdeveloper.nodeJSSharedLocation";
 
-    private static final String MACOS_DSCL_SHELL_PREFIX = "UserShell: ";
-    private static final String ALREADY_WARNED_NODEJS_MISSING = "alreadyWarnedNodeJsMissing";
+    static final String ALREADY_WARNED_NODEJS_MISSING = "alreadyWarnedNodeJsMissing";
 
     private static Properties cachedNodeJsInfoProperties;
     private static final Object EXPAND_LOCK = new Object();
@@ -52,18 +55,25 @@ public class NodeJSManager {
      * Finds Node.js executable installed in following list of locations:
      * - Location, specified in `org.eclipse.wildwebdeveloper.nodeJSLocation` system
      * property
+     * - Per-user location shared by all Eclipse instances, `~/.wildwebdeveloper/node`
+     * unless overridden by {@link #SHARED_LOCATION_PROPERTY}
      * - Platform Install Location
      * - Platform User Location
      * - WWD Node bundle configuration location
      * - OS dependent default installation path
      * In case of Node.js cannot be found installs the embedded version into the
      * first
-     * available location of platform install/user/workspace locations
+     * available location of shared/platform install/user/workspace locations
+     * The result is cached for the session, see {@link NodeJSRuntimeResolver}.
      *
      * @return The file for Node.js executable or null if it cannot be installed
      */
     public static File getNodeJsLocation() {
-        String nodeJsLocation = System.getProperty("org.eclipse.wildwebdeveloper.nodeJSLocation");
+        return NodeJSRuntimeResolver.getNodeJsLocation();
+    }
+
+    static File resolveNodeJsLocation() {
+        String nodeJsLocation = System.getProperty(NodeJSRuntimeResolver.NODE_JS_LOCATION_PROPERTY);
         if (nodeJsLocation != null) {
             File nodejs = new File(nodeJsLocation);
             if (nodejs.exists()) {
@@ -77,19 +87,21 @@ public class NodeJSManager {
             try {
                 File nodePath = probeNodeJsExacutable(properties);
                 if (nodePath != null) {
-                    return nodePath;
+                    if (nodePath.isFile()) {
+                        return nodePath;
+                    }
+                    ILog.get().warn("Embedded Node.js install at " + nodePath.getParent() + " is damaged, reinstalling");
                 }
 
                 File installationPath = probeNodeJsInstallLocationn();
                 if (installationPath != null) {
-                    nodePath = new File(installationPath, properties.getProperty("nodePath"));
+                    NodeJSInstallation installation = new NodeJSInstallation(installationPath, properties,
+                            installationPath.equals(getSharedInstallationLocation()));
                     synchronized (EXPAND_LOCK) {
-                        if (!nodePath.exists() || !nodePath.canRead() || !nodePath.canExecute()) {
-                            CompressUtils.unarchive(FileLocator.find(Activator.getDefault().getBundle(),
-                                    new Path(properties.getProperty("archiveFile"))), installationPath);
-                        }
+                        installation.ensureInstalled(FileLocator.find(Activator.getDefault().getBundle(),
+                                new Path(properties.getProperty("archiveFile"))));
                     }
-                    return nodePath;
+                    return installation.getNodePath();
                 }
             } catch (IOException e) {
                 ILog.get().error(e.getMessage(), e);
@@ -110,6 +122,38 @@ public class NodeJSManager {
         return null;
     }
 
+    /**
+     * Returns the version of the Node.js runtime found by
+     * {@link #getNodeJsLocation()}. Versions are cached across sessions, so
+     * <code>node -v</code> only runs when the executable is new or changed.
+     *
+     * @return the version or null if Node.js cannot be found or its version
+     *         cannot be determined
+     */
+    public static NodeJSVersion getNodeJsVersion() {
+        File nodeJsLocation = getNodeJsLocation();
+        return nodeJsLocation != null ? getNodeJsVersion(nodeJsLocation) : null;
+    }
+
+    /**
+     * @param nodeJsLocation
+     *                           a Node.js executable
+     * @return the version of the given executable or null if it cannot be
+     *         determined
+     */
+    public static NodeJSVersion getNodeJsVersion(File nodeJsLocation) {
+        return NodeJSVersionCache.get(nodeJsLocation);
+    }
+
+    /**
+     * @return whether the Node.js runtime found by {@link #getNodeJsLocation()}
+     *         provides the given capability
+     */
+    public static boolean supports(NodeJSCapability capability) {
+        NodeJSVersion version = getNodeJsVersion();
+        return version != null && version.supports(capability);
+    }
+
     /**
      * Finds NPM executable installed in Node.js bundle location
      *
@@ -161,7 +205,9 @@ public class NodeJSManager {
         tmp.add(getNodeJsLocation().getAbsolutePath());
         tmp.addAll(commands);
 
-        return new ProcessBuilder(tmp);
+        ProcessBuilder builder = new ProcessBuilder(tmp);
+        ShellEnvironment.applyTo(builder.environment());
+        return builder;
     }
 
     public static ProcessBuilder prepareNPMProcessBuilder(String... commands) {
@@ -201,19 +247,8 @@ public class NodeJSManager {
                 return exe;
         }
 
-        String res = null;
-        String[] command = new String[] { "/bin/bash", "-c", "-l", "which " + program };
-        if (Platform.getOS().equals(Platform.OS_WIN32)) {
-            command = new String[] { "cmd", "/c", "where " + program };
-        } else if (Platform.getOS().equals(Platform.OS_MACOSX)) {
-            command = new String[] { getDefaultShellMacOS(), "-c", "-li", "which " + program };
-        }
-        try (BufferedReader reader = Runtime.getRuntime().exec(command).inputReader()) {
-            res = reader.readLine();
-        } catch (IOException e) {
-            ILog.get().error(e.getMessage(), e);
-        }
-        return res != null ? new File(res) : null;
+        // Not on the Eclipse PATH, look it up on the PATH of the login shell once captured
+        return ShellEnvironment.which(program);
     }
 
     private static Properties getNodeJsInfoProperties() {
@@ -266,12 +301,21 @@ public class NodeJSManager {
 
     private static final File[] getOrderedInstallationLocations() {
         return new File[] {
+                getSharedInstallationLocation(), // Shared by all Eclipse instances of the user
                 toFile(Platform.getInstallLocation(), NODE_ROOT_DIRECTORY), // Platform Install Location
                 toFile(Platform.getUserLocation(), NODE_ROOT_DIRECTORY), // Platform User Location
                 toFile(Platform.getStateLocation(Activator.getDefault().getBundle())) // Default
         };
     }
 
+    private static final File getSharedInstallationLocation() {
+        String location = System.getProperty(SHARED_LOCATION_PROPERTY);
+        if (location == null) {
+            return new File(System.getProperty("user.home"), ".wildwebdeveloper/node");
+        }
+        return location.isBlank() ? null : new File(location);
+    }
+
     private static final File toFile(Location location, String binDirectory) {
         File installLocation = location != null && location.getURL() != null ? new File(location.getURL().getFile())
                 : null;
@@ -287,30 +331,15 @@ public class NodeJSManager {
 
     private static final File getNodeJsExecutablen(File installationLocation, Properties properties) {
         if (installationLocation != null) {
-            File nodePath = new File(installationLocation, properties.getProperty("nodePath"));
-            if (nodePath.exists() && nodePath.canRead() && nodePath.canExecute()) {
-                return nodePath;
+            NodeJSInstallation installation = new NodeJSInstallation(installationLocation, properties,
+                    installationLocation.equals(getSharedInstallationLocation()));
+            if (installation.isInstalled()) {
+                return installation.getNodePath();
             }
         }
         return null;
     }
 
-    private static String getDefaultShellMacOS() {
-        String res = null;
-        String[] command = { "/bin/bash", "-c", "-l", "dscl . -read ~/ UserShell" };
-        try (BufferedReader reader = Runtime.getRuntime().exec(command).inputReader()) {
-            res = reader.readLine();
-            if (!res.startsWith(MACOS_DSCL_SHELL_PREFIX)) {
-                ILog.get().error("Cannot find default shell. Use '/bin/zsh' instead.");
-                return "/bin/zsh"; // Default shell since macOS 10.15
-            }
-            res = res.substring(MACOS_DSCL_SHELL_PREFIX.length());
-        } catch (IOException e) {
-            ILog.get().error(e.getMessage(), e);
-        }
-        return res;
-    }
-
     private static File getDefaultNodePath() {
         return new File(switch (Platform.getOS()) {
             case Platform.OS_MACOSX -> "/usr/local/bin/node";
@@ -320,16 +349,7 @@ public class NodeJSManager {
     }
 
     private static void validateNodeVersion(File nodeJsLocation) {
-        String nodeVersion = null;
-        String[] nodeVersionCommand = { nodeJsLocation.getAbsolutePath(), "-v" };
-
-        try (BufferedReader reader = Runtime.getRuntime().exec(nodeVersionCommand).inputReader()) {
-            nodeVersion = reader.readLine();
-        } catch (IOException e) {
-            ILog.get().error(e.getMessage(), e);
-        }
-
-        if (nodeVersion == null) {
+        if (getNodeJsVersion(nodeJsLocation) == null) {
             warnNodeJSVersionCouldNotBeDetermined();
         }
     }
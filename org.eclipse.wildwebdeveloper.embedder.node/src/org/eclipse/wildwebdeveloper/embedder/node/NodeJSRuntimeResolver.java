@@ -0,0 +1,209 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wildwebdeveloper.embedder.node;
+
+import java.io.File;
+import java.lang.reflect.InvocationTargetException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences.IPreferenceChangeListener;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.ui.PlatformUI;
+
+/**
+ * Session-wide cache of the resolved Node.js runtime.
+ * <p>
+ * Resolving the runtime probes several install locations, may run
+ * <code>node -v</code> and may start a login shell to look up <code>node</code>
+ * on the user's PATH. As every language server and debug launch asks for the
+ * runtime, the result is computed once and reused until either the
+ * <code>org.eclipse.wildwebdeveloper.nodeJSLocation</code> system property or
+ * the preferences of this bundle change, or the resolved executable disappears
+ * from disk.
+ * </p>
+ * <p>
+ * The runtime is resolved, and the embedded one extracted if needed, by a low
+ * priority job scheduled when this bundle starts. Callers arriving while that
+ * job runs wait for it instead of resolving the runtime a second time.
+ * </p>
+ */
+public final class NodeJSRuntimeResolver {
+
+	static final String NODE_JS_LOCATION_PROPERTY = "org.eclipse.wildwebdeveloper.nodeJSLocation"; //$NON-NLS-1$
+
+	private record Resolution(File location, String nodeJsLocationProperty) {
+	}
+
+	private static final Object LOCK = new Object();
+
+	private static final IPreferenceChangeListener PREFERENCE_LISTENER = event -> {
+		if (!NodeJSManager.ALREADY_WARNED_NODEJS_MISSING.equals(event.getKey())) {
+			invalidate();
+		}
+	};
+
+	private static final AtomicLong resolutionCount = new AtomicLong();
+	private static final AtomicLong cacheHitCount = new AtomicLong();
+	private static final AtomicLong totalResolutionNanos = new AtomicLong();
+
+	private static volatile Job prewarmJob;
+	private static volatile Resolution cachedResolution;
+	private static volatile long lastResolutionNanos;
+	private static IEclipsePreferences listenedPreferences;
+
+	private NodeJSRuntimeResolver() {
+	}
+
+	/**
+	 * Returns the Node.js executable, resolving it only if no valid cached
+	 * resolution exists.
+	 *
+	 * @return The file for Node.js executable or null if it cannot be found nor
+	 *         installed
+	 * @see NodeJSManager#getNodeJsLocation()
+	 */
+	public static File getNodeJsLocation() {
+		String nodeJsLocationProperty = System.getProperty(NODE_JS_LOCATION_PROPERTY);
+		Resolution resolution = cachedResolution;
+		if (isValid(resolution, nodeJsLocationProperty)) {
+			cacheHitCount.incrementAndGet();
+			return resolution.location();
+		}
+		awaitPrewarm();
+		synchronized (LOCK) {
+			resolution = cachedResolution;
+			if (isValid(resolution, nodeJsLocationProperty)) {
+				cacheHitCount.incrementAndGet();
+				return resolution.location();
+			}
+			listenToPreferences();
+
+			long start = System.nanoTime();
+			File location = NodeJSManager.resolveNodeJsLocation();
+			long elapsed = System.nanoTime() - start;
+
+			resolutionCount.incrementAndGet();
+			totalResolutionNanos.addAndGet(elapsed);
+			lastResolutionNanos = elapsed;
+			// Failures are not cached so that a later call can recover, e.g. once
+			// the user has installed Node.js
+			cachedResolution = location != null ? new Resolution(location, nodeJsLocationProperty) : null;
+			return location;
+		}
+	}
+
+	/**
+	 * Forgets the cached resolution so that the next call to
+	 * {@link #getNodeJsLocation()} resolves the runtime again.
+	 */
+	public static void invalidate() {
+		cachedResolution = null;
+	}
+
+	/**
+	 * @return the number of times the runtime was actually resolved
+	 */
+	public static long getResolutionCount() {
+		return resolutionCount.get();
+	}
+
+	/**
+	 * @return the number of calls answered from the cache
+	 */
+	public static long getCacheHitCount() {
+		return cacheHitCount.get();
+	}
+
+	/**
+	 * @return the time spent in the last resolution
+	 */
+	public static Duration getLastResolutionTime() {
+		return Duration.ofNanos(lastResolutionNanos);
+	}
+
+	/**
+	 * @return the time spent in all resolutions of this session
+	 */
+	public static Duration getTotalResolutionTime() {
+		return Duration.ofNanos(totalResolutionNanos.get());
+	}
+
+	/**
+	 * Schedules the background resolution of the runtime, so that the first
+	 * language server does not have to extract it.
+	 */
+	static void prewarm() {
+		Job job = Job.create("Preparing Node.js runtime", monitor -> {
+			monitor.beginTask("Preparing Node.js runtime", 1);
+			getNodeJsLocation();
+			monitor.done();
+		});
+		job.setPriority(Job.DECORATE);
+		prewarmJob = job;
+		job.schedule();
+	}
+
+	/*
+	 * Only waits for a job that is already running: one still queued behind
+	 * other jobs would only delay the caller, which then resolves the runtime
+	 * itself and leaves a cache hit to the job.
+	 */
+	private static void awaitPrewarm() {
+		Job job = prewarmJob;
+		if (job == null || job.getState() != Job.RUNNING || Job.getJobManager().currentJob() == job) {
+			return;
+		}
+		try {
+			if (Display.getCurrent() != null && PlatformUI.isWorkbenchRunning()) {
+				// Keeps the UI responsive and shows a progress dialog if this takes long
+				PlatformUI.getWorkbench().getProgressService().busyCursorWhile(monitor -> job.join(0, monitor));
+			} else {
+				job.join();
+			}
+		} catch (InvocationTargetException e) {
+			ILog.get().error(e.getMessage(), e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static boolean isValid(Resolution resolution, String nodeJsLocationProperty) {
+		return resolution != null && Objects.equals(resolution.nodeJsLocationProperty(), nodeJsLocationProperty)
+				&& resolution.location().exists();
+	}
+
+	private static void listenToPreferences() {
+		if (listenedPreferences == null) {
+			listenedPreferences = InstanceScope.INSTANCE.getNode(Activator.PLUGIN_ID);
+			listenedPreferences.addPreferenceChangeListener(PREFERENCE_LISTENER);
+		}
+	}
+
+	static void dispose() {
+		Job job = prewarmJob;
+		if (job != null) {
+			job.cancel();
+			prewarmJob = null;
+		}
+		synchronized (LOCK) {
+			if (listenedPreferences != null) {
+				listenedPreferences.removePreferenceChangeListener(PREFERENCE_LISTENER);
+				listenedPreferences = null;
+			}
+			cachedResolution = null;
+		}
+	}
+}
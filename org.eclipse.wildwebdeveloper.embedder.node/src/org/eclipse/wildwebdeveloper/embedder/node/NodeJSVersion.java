@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wildwebdeveloper.embedder.node;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Version of a Node.js runtime, as printed by <code>node -v</code>.
+ */
+public record NodeJSVersion(int major, int minor, int patch) implements Comparable<NodeJSVersion> {
+
+    private static final Pattern VERSION = Pattern.compile("v?(\\d+)\\.(\\d+)\\.(\\d+)");
+
+    /**
+     * @param version
+     *                    a version like <code>v24.19.0</code> or
+     *                    <code>24.19.0</code>, pre-release and build suffixes
+     *                    are ignored
+     * @return the version or <code>null</code> if it cannot be parsed
+     */
+    public static NodeJSVersion parse(String version) {
+        if (version == null) {
+            return null;
+        }
+        Matcher matcher = VERSION.matcher(version.trim());
+        if (!matcher.lookingAt()) {
+            return null;
+        }
+        try {
+            return new NodeJSVersion(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)),
+                    Integer.parseInt(matcher.group(3)));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public boolean isAtLeast(int major, int minor) {
+        return compareTo(new NodeJSVersion(major, minor, 0)) >= 0;
+    }
+
+    public boolean supports(NodeJSCapability capability) {
+        return isAtLeast(capability.getMajor(), capability.getMinor());
+    }
+
+    @Override
+    public int compareTo(NodeJSVersion other) {
+        int res = Integer.compare(major, other.major);
+        if (res == 0) {
+            res = Integer.compare(minor, other.minor);
+        }
+        if (res == 0) {
+            res = Integer.compare(patch, other.patch);
+        }
+        return res;
+    }
+
+    @Override
+    public String toString() {
+        return "v" + major + '.' + minor + '.' + patch;
+    }
+}
@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wildwebdeveloper.embedder.node;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.Platform;
+
+/**
+ * Versions of the Node.js executables probed with <code>node -v</code>,
+ * persisted in the state location of this bundle. An entry is keyed by the
+ * real path of the executable and only reused while the modification time and
+ * size of the executable are unchanged, so replacing or upgrading it is
+ * noticed.
+ * <p>
+ * <code>node -v</code> runs without holding the lock of the cache, so callers
+ * asking for other executables, or for cached versions, do not wait for it.
+ * </p>
+ */
+public final class NodeJSVersionCache {
+
+    private static final String CACHE_FILE = "nodejs-versions.properties";
+
+    private static final AtomicLong probeCount = new AtomicLong();
+
+    private static Properties entries;
+
+    private NodeJSVersionCache() {
+    }
+
+    /**
+     * @param nodeJsLocation
+     *                           a Node.js executable
+     * @return the version of the given executable or null if it cannot be
+     *         determined
+     * @see NodeJSManager#getNodeJsVersion(File)
+     */
+    public static NodeJSVersion get(File nodeJsLocation) {
+        String key;
+        try {
+            key = nodeJsLocation.toPath().toRealPath().toString();
+        } catch (IOException e) {
+            return null;
+        }
+        String stamp = nodeJsLocation.lastModified() + "," + nodeJsLocation.length() + ",";
+        String entry;
+        synchronized (NodeJSVersionCache.class) {
+            entry = load().getProperty(key);
+        }
+        if (entry != null && entry.startsWith(stamp)) {
+            NodeJSVersion version = NodeJSVersion.parse(entry.substring(stamp.length()));
+            if (version != null) {
+                return version;
+            }
+        }
+        NodeJSVersion version = probe(nodeJsLocation);
+        // Failures are not remembered, the next session tries again
+        if (version != null) {
+            synchronized (NodeJSVersionCache.class) {
+                Properties cache = load();
+                cache.setProperty(key, stamp + version);
+                save(cache);
+            }
+        }
+        return version;
+    }
+
+    /**
+     * Forgets the versions read from the state location, so that the next call
+     * to {@link #get(File)} reads them again, like a new session does.
+     */
+    public static synchronized void reload() {
+        entries = null;
+    }
+
+    /**
+     * @return the number of times <code>node -v</code> was run in this session
+     */
+    public static long getProbeCount() {
+        return probeCount.get();
+    }
+
+    private static NodeJSVersion probe(File nodeJsLocation) {
+        probeCount.incrementAndGet();
+        String[] nodeVersionCommand = { nodeJsLocation.getAbsolutePath(), "-v" };
+        try (BufferedReader reader = Runtime.getRuntime().exec(nodeVersionCommand).inputReader()) {
+            return NodeJSVersion.parse(reader.readLine());
+        } catch (IOException e) {
+            ILog.get().error(e.getMessage(), e);
+            return null;
+        }
+    }
+
+    private static Properties load() {
+        if (entries == null) {
+            entries = new Properties();
+            File file = getCacheFile();
+            if (file != null && file.isFile()) {
+                try (InputStream in = Files.newInputStream(file.toPath())) {
+                    entries.load(in);
+                } catch (IOException | IllegalArgumentException e) {
+                    // A corrupted cache is rebuilt
+                    entries.clear();
+                }
+            }
+        }
+        return entries;
+    }
+
+    private static void save(Properties cache) {
+        File file = getCacheFile();
+        if (file == null) {
+            return;
+        }
+        try (OutputStream out = Files.newOutputStream(file.toPath())) {
+            cache.store(out, "Versions of the probed Node.js executables: <mtime>,<size>,<version>");
+        } catch (IOException e) {
+            ILog.get().warn("Cannot save " + file + ": " + e.getMessage());
+        }
+    }
+
+    private static File getCacheFile() {
+        Activator activator = Activator.getDefault();
+        if (activator == null) {
+            return null;
+        }
+        return Platform.getStateLocation(activator.getBundle()).append(CACHE_FILE).toFile();
+    }
+}
@@ -0,0 +1,276 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wildwebdeveloper.embedder.node;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.Platform;
+
+/**
+ * Snapshot of the environment of the user's login shell.
+ * <p>
+ * Eclipse started from a desktop launcher does not inherit what the user's
+ * shell profile sets up, typically the <code>PATH</code> entries added by nvm,
+ * volta or conda. The login shell is started once per session, in the
+ * background, to print its environment; executables are then looked up
+ * in-process against the captured <code>PATH</code>, and the captured
+ * environment completes the environment of the processes started by Wild Web
+ * Developer once it is available. On Windows the environment of Eclipse is
+ * used as is.
+ * </p>
+ */
+public final class ShellEnvironment {
+
+    private static final String MACOS_DSCL_SHELL_PREFIX = "UserShell: ";
+    // printed by the shell before its environment, see parse(String)
+    static final String MARKER = "__WILDWEBDEVELOPER_ENVIRONMENT__";
+    private static final Duration CAPTURE_TIMEOUT = Duration.ofSeconds(10);
+    private static final String DEFAULT_PATHEXT = ".COM;.EXE;.BAT;.CMD";
+
+    /*
+     * Variables describing the shell that printed the environment rather than
+     * the user's environment.
+     */
+    private static final Set<String> SHELL_VARIABLES = Set.of("_", "PWD", "OLDPWD", "SHLVL");
+
+    private static CompletableFuture<Map<String, String>> snapshot;
+
+    private ShellEnvironment() {
+    }
+
+    /**
+     * Starts capturing the environment if not done yet.
+     *
+     * @return the future environment of the user's login shell
+     */
+    public static synchronized CompletableFuture<Map<String, String>> getAsync() {
+        if (snapshot == null) {
+            snapshot = CompletableFuture.supplyAsync(ShellEnvironment::capture);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Waits for the capture, up to 10 seconds: not to be called from the UI
+     * thread.
+     *
+     * @return the environment of the user's login shell, or the environment of
+     *         Eclipse if it cannot be captured
+     */
+    public static Map<String, String> get() {
+        try {
+            return getAsync().get(CAPTURE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            ILog.get().warn("Cannot capture the login shell environment, using the Eclipse environment", e);
+        }
+        return System.getenv();
+    }
+
+    /**
+     * Looks up an executable on the <code>PATH</code> of the login shell, if
+     * already captured. Does not wait for the capture, so can be called from
+     * the UI thread.
+     *
+     * @param program
+     *                    name of the executable
+     * @return the executable or <code>null</code> if it cannot be found or the
+     *         environment is not captured yet
+     * @see #which(String, Map)
+     */
+    public static File which(String program) {
+        CompletableFuture<Map<String, String>> shellEnvironment = getAsync();
+        if (!shellEnvironment.isDone() || shellEnvironment.isCompletedExceptionally()) {
+            return null;
+        }
+        return which(program, shellEnvironment.join());
+    }
+
+    /**
+     * Looks up an executable on the <code>PATH</code> of the given environment,
+     * trying the <code>PATHEXT</code> extensions, on Windows or when the
+     * environment defines them, if the name has none.
+     *
+     * @param program
+     *                        name of the executable
+     * @param environment
+     *                        the environment to read <code>PATH</code> and
+     *                        <code>PATHEXT</code> from
+     * @return the executable or <code>null</code> if it cannot be found
+     */
+    public static File which(String program, Map<String, String> environment) {
+        String path = getVariable(environment, "PATH");
+        if (path == null) {
+            return null;
+        }
+        List<String> extensions = List.of("");
+        String pathExt = getVariable(environment, "PATHEXT");
+        if ((pathExt != null || Platform.OS_WIN32.equals(Platform.getOS())) && !program.contains(".")) {
+            // Without extension, "npm" would find the shell script next to npm.cmd
+            extensions = List.of((pathExt != null ? pathExt : DEFAULT_PATHEXT).toLowerCase().split(";"));
+        }
+        for (String directory : path.split(File.pathSeparator)) {
+            if (directory.isEmpty()) {
+                continue;
+            }
+            for (String extension : extensions) {
+                File exe = new File(directory, program + extension);
+                if (exe.isFile() && exe.canExecute()) {
+                    return exe;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Completes the environment of a process to start with the login shell
+     * environment, if already captured: the entries of its <code>PATH</code>
+     * missing from the current one are appended, and variables not set yet are
+     * added. Processes started before the capture ends get the environment of
+     * Eclipse.
+     *
+     * @param environment
+     *                        the environment of a {@link ProcessBuilder} to
+     *                        complete
+     */
+    public static void applyTo(Map<String, String> environment) {
+        CompletableFuture<Map<String, String>> shellEnvironment = getAsync();
+        if (shellEnvironment.isDone() && !shellEnvironment.isCompletedExceptionally()) {
+            applyTo(environment, shellEnvironment.join());
+        }
+    }
+
+    private static void applyTo(Map<String, String> environment, Map<String, String> shellEnvironment) {
+        String shellPath = getVariable(shellEnvironment, "PATH");
+        shellEnvironment.forEach(environment::putIfAbsent);
+        if (shellPath == null) {
+            return;
+        }
+        // On Windows the variable is usually named "Path"
+        String key = environment.keySet().stream().filter(name -> name.equalsIgnoreCase("PATH")).findFirst()
+                .orElse("PATH");
+        String path = environment.get(key);
+        if (path == null || path.isEmpty()) {
+            environment.put(key, shellPath);
+            return;
+        }
+        Set<String> entries = new LinkedHashSet<>(Arrays.asList(path.split(File.pathSeparator)));
+        entries.addAll(Arrays.asList(shellPath.split(File.pathSeparator)));
+        entries.remove("");
+        environment.put(key, String.join(File.pathSeparator, entries));
+    }
+
+    private static String getVariable(Map<String, String> environment, String name) {
+        return environment.entrySet().stream().filter(entry -> entry.getKey().equalsIgnoreCase(name))
+                .map(Map.Entry::getValue).findFirst().orElse(null);
+    }
+
+    private static Map<String, String> capture() {
+        if (Platform.OS_WIN32.equals(Platform.getOS())) {
+            return System.getenv();
+        }
+        String printEnvironment = "echo " + MARKER + "; env -0";
+        String[] command = { "/bin/bash", "-c", "-l", printEnvironment };
+        if (Platform.OS_MACOSX.equals(Platform.getOS())) {
+            command = new String[] { getDefaultShellMacOS(), "-c", "-li", printEnvironment };
+        }
+        return capture(command, CAPTURE_TIMEOUT);
+    }
+
+    /*
+     * Runs a shell command printing MARKER then its environment with env -0.
+     * Returns the environment of Eclipse if the shell fails, does not exit
+     * within the timeout or prints no environment.
+     */
+    static Map<String, String> capture(String[] command, Duration timeout) {
+        try {
+            Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.DISCARD).start();
+            process.getOutputStream().close();
+            CompletableFuture<String> output = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+                } catch (IOException e) {
+                    return "";
+                }
+            });
+            if (!process.waitFor(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                process.destroyForcibly();
+                ILog.get().warn("Login shell did not print its environment in time, using the Eclipse environment");
+                return System.getenv();
+            }
+            Map<String, String> environment = parse(output.get());
+            return environment.isEmpty() ? System.getenv() : environment;
+        } catch (IOException | ExecutionException e) {
+            ILog.get().error(e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return System.getenv();
+    }
+
+    /*
+     * Parses the output of "echo MARKER; env -0", empty if it has no marker.
+     * Interactive shells may print a banner before running the command, so only
+     * what follows the marker is parsed. The variables describing the shell
+     * itself, like SHLVL, are left out.
+     */
+    static Map<String, String> parse(String output) {
+        int start = output.lastIndexOf(MARKER + '\n');
+        if (start < 0) {
+            return Map.of();
+        }
+        Map<String, String> environment = new HashMap<>();
+        for (String variable : output.substring(start + MARKER.length() + 1).split("\0")) {
+            int separator = variable.indexOf('=');
+            if (separator > 0) {
+                String name = variable.substring(0, separator);
+                if (!SHELL_VARIABLES.contains(name)) {
+                    environment.put(name, variable.substring(separator + 1));
+                }
+            }
+        }
+        return Collections.unmodifiableMap(environment);
+    }
+
+    private static String getDefaultShellMacOS() {
+        String res = null;
+        String[] command = { "/bin/bash", "-c", "-l", "dscl . -read ~/ UserShell" };
+        try (BufferedReader reader = Runtime.getRuntime().exec(command).inputReader()) {
+            res = reader.readLine();
+            if (res == null || !res.startsWith(MACOS_DSCL_SHELL_PREFIX)) {
+                ILog.get().error("Cannot find default shell. Use '/bin/zsh' instead.");
+                return "/bin/zsh"; // Default shell since macOS 10.15
+            }
+            res = res.substring(MACOS_DSCL_SHELL_PREFIX.length());
+        } catch (IOException e) {
+            ILog.get().error(e.getMessage(), e);
+            return "/bin/zsh";
+        }
+        return res;
+    }
+}
@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wildwebdeveloper.tests;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.eclipse.wildwebdeveloper.embedder.node.NodeJSManager;
+import org.eclipse.wildwebdeveloper.server.CrashLoopGuard;
+import org.eclipse.wildwebdeveloper.server.ManagedProcessStreamConnectionProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class TestCrashLoopGuard {
+
+	private static final class CrashingServer extends ManagedProcessStreamConnectionProvider {
+		CrashingServer() {
+			setCommands(List.of(NodeJSManager.getNodeJsLocation().getAbsolutePath(), "-e",
+					"setTimeout(() => process.exit(1), 200)"));
+			setWorkingDirectory(System.getProperty("user.dir"));
+		}
+	}
+
+	private static final String NAME = CrashingServer.class.getSimpleName();
+
+	@AfterEach
+	public void retry() {
+		CrashLoopGuard.retry(NAME);
+	}
+
+	@Test
+	public void testSuspendAfterCrashes() throws Exception {
+		CrashingServer server = new CrashingServer();
+		for (int i = 0; i < 3; i++) {
+			assertFalse(CrashLoopGuard.isSuspended(NAME), "Suspended too early");
+			server.start();
+			server.getInputStream().readAllBytes(); // until the process exits
+		}
+		long deadline = System.currentTimeMillis() + 5000;
+		while (!CrashLoopGuard.isSuspended(NAME) && System.currentTimeMillis() < deadline) {
+			Thread.sleep(50);
+		}
+		assertTrue(CrashLoopGuard.isSuspended(NAME), "Not suspended after crashing 3 times");
+		assertThrows(IOException.class, server::start, "Suspended server started");
+
+		CrashLoopGuard.retry(NAME);
+		assertFalse(CrashLoopGuard.isSuspended(NAME));
+		server.start();
+		server.stop();
+	}
+}
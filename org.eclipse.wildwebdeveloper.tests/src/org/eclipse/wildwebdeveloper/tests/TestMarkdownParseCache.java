@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wildwebdeveloper.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.wildwebdeveloper.markdown.MarkdownParseCache;
+import org.junit.jupiter.api.Test;
+
+public class TestMarkdownParseCache {
+
+	private static final List<Map<String, Object>> TOKENS = List.of(Map.of("type", "heading_open"));
+
+	@Test
+	public void testSameContentServedFromCache() {
+		MarkdownParseCache cache = new MarkdownParseCache(1000);
+		String hash = MarkdownParseCache.hash("# Title");
+		assertNull(cache.get("file:///a.md", hash));
+		cache.put("file:///a.md", hash, TOKENS, 100);
+
+		assertSame(TOKENS, cache.get("file:///a.md", hash));
+		assertNull(cache.get("file:///a.md", MarkdownParseCache.hash("# Other title")), "Tokens of other content");
+		assertNull(cache.get("file:///b.md", hash), "Tokens of another document");
+		assertEquals(1, cache.getHits());
+		assertEquals(3, cache.getMisses());
+
+		cache.put("file:///a.md", MarkdownParseCache.hash("# Other title"), TOKENS, 200);
+		assertNull(cache.get("file:///a.md", hash), "Tokens of previous content kept");
+		assertEquals(200, cache.getSize());
+	}
+
+	@Test
+	public void testLeastRecentlyUsedEvicted() {
+		MarkdownParseCache cache = new MarkdownParseCache(1000);
+		String hash = MarkdownParseCache.hash("# Title");
+		cache.put("file:///a.md", hash, TOKENS, 400);
+		cache.put("file:///b.md", hash, TOKENS, 400);
+		assertNotNull(cache.get("file:///a.md", hash));
+		cache.put("file:///c.md", hash, TOKENS, 400);
+
+		assertNotNull(cache.get("file:///a.md", hash));
+		assertNull(cache.get("file:///b.md", hash), "Least recently used tokens kept");
+		assertNotNull(cache.get("file:///c.md", hash));
+		assertEquals(800, cache.getSize());
+
+		cache.put("file:///d.md", hash, TOKENS, 2000);
+		assertNull(cache.get("file:///d.md", hash), "Tokens larger than the cache kept");
+		assertEquals(800, cache.getSize());
+	}
+}
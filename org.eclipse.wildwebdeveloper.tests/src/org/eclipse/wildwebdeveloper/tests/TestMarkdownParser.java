@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wildwebdeveloper.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.FileLocator;
+import org.eclipse.wildwebdeveloper.embedder.node.NodeJSManager;
+import org.eclipse.wildwebdeveloper.markdown.MarkdownParser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestMarkdownParser {
+
+	private static final String MARKDOWN = """
+			# Title
+
+			Some *text* with a [link](https://www.eclipse.org).
+
+			- item
+			- item
+			""";
+
+	private static final int REQUESTS = 10;
+
+	@TempDir
+	Path directory;
+
+	@AfterEach
+	public void shutdown() {
+		MarkdownParser.shutdown();
+	}
+
+	@Test
+	public void testPipelinedRequests() throws Exception {
+		List<CompletableFuture<String>> results = new ArrayList<>();
+		for (int i = 0; i < REQUESTS; i++) {
+			results.add(MarkdownParser.parse("# Title " + i));
+		}
+		for (int i = 0; i < REQUESTS; i++) {
+			String tokens = results.get(i).get(30, TimeUnit.SECONDS);
+			assertTrue(tokens.contains("\"content\":\"Title " + i + "\""), tokens);
+		}
+	}
+
+	@Test
+	public void testWorkerRestartedAfterCrash() throws Exception {
+		assertTrue(MarkdownParser.parse(MARKDOWN).get(30, TimeUnit.SECONDS).contains("heading_open"));
+		ProcessHandle worker = MarkdownParser.getProcessHandle();
+		assertNotNull(worker);
+		worker.destroyForcibly();
+		worker.onExit().get(30, TimeUnit.SECONDS);
+
+		assertTrue(MarkdownParser.parse(MARKDOWN).get(30, TimeUnit.SECONDS).contains("heading_open"),
+				"Worker not restarted");
+		assertNotEquals(worker.pid(), MarkdownParser.getProcessHandle().pid());
+	}
+
+	@Test
+	public void testWorkerStoppedByLastRelease() throws Exception {
+		MarkdownParser.acquire();
+		MarkdownParser.acquire();
+		assertTrue(MarkdownParser.parse(MARKDOWN).get(30, TimeUnit.SECONDS).contains("heading_open"));
+		ProcessHandle worker = MarkdownParser.getProcessHandle();
+		assertNotNull(worker);
+
+		MarkdownParser.release();
+		assertEquals(worker, MarkdownParser.getProcessHandle(), "Worker stopped while still acquired");
+		MarkdownParser.release();
+		assertNull(MarkdownParser.getProcessHandle(), "Worker not stopped by the last release");
+		worker.onExit().get(30, TimeUnit.SECONDS);
+	}
+
+	@Test
+	public void testWorkerFasterThanProcessPerRequest() throws Exception {
+		String script = new File(FileLocator.toFileURL(MarkdownParser.class.getResource("md-parse.js")).getPath())
+				.getAbsolutePath();
+		Path file = directory.resolve("test.md");
+		Files.writeString(file, MARKDOWN);
+		// started before measuring, like after the first request of a session
+		String expected = MarkdownParser.parse(MARKDOWN).get(30, TimeUnit.SECONDS);
+
+		long start = System.nanoTime();
+		for (int i = 0; i < REQUESTS; i++) {
+			assertEquals(expected, MarkdownParser.parse(MARKDOWN).get(30, TimeUnit.SECONDS));
+		}
+		long worker = System.nanoTime() - start;
+
+		start = System.nanoTime();
+		for (int i = 0; i < REQUESTS; i++) {
+			Process process = NodeJSManager.prepareNodeProcessBuilder(script, file.toString()).start();
+			String tokens = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+			assertEquals(0, process.waitFor());
+			assertEquals(expected, tokens);
+		}
+		long processPerRequest = System.nanoTime() - start;
+
+		System.out.println("markdown/parse mean latency: worker " + worker / REQUESTS / 1000 + " us, process per request "
+				+ processPerRequest / REQUESTS / 1000 + " us");
+	}
+}
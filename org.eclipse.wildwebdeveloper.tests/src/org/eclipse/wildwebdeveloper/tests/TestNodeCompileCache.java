@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wildwebdeveloper.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.File;
+import java.lang.ProcessBuilder.Redirect;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.FileLocator;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.wildwebdeveloper.embedder.node.NodeJSCapability;
+import org.eclipse.wildwebdeveloper.embedder.node.NodeJSManager;
+import org.eclipse.wildwebdeveloper.server.NodeCompileCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+@ExtendWith(AllCleanRule.class)
+public class TestNodeCompileCache {
+
+	@Test
+	public void testCompileCacheStartup(@TempDir Path cache) throws Exception {
+		assumeTrue(NodeJSManager.supports(NodeJSCapability.COMPILE_CACHE), "Node.js runtime has no compile cache");
+		String typescript = new File(FileLocator.toFileURL(Platform.getBundle("org.eclipse.wildwebdeveloper")
+				.getEntry("/node_modules/typescript/lib/typescript.js")).getPath()).getAbsolutePath();
+
+		long uncached = load(typescript, null);
+		long cold = load(typescript, cache);
+		try (Stream<Path> files = Files.walk(cache)) {
+			assertTrue(files.anyMatch(Files::isRegularFile), "Compile cache was not written");
+		}
+		long warm = load(typescript, cache);
+		System.out.println("Loading TypeScript: " + uncached + "ms without compile cache, " + cold + "ms cold, "
+				+ warm + "ms warm");
+	}
+
+	private static long load(String script, Path cache) throws Exception {
+		ProcessBuilder builder = NodeJSManager.prepareNodeProcessBuilder("-e",
+				"require(process.argv[1]); require('module').flushCompileCache?.()", script);
+		builder.environment().remove(NodeCompileCache.NODE_COMPILE_CACHE);
+		if (cache != null) {
+			builder.environment().put(NodeCompileCache.NODE_COMPILE_CACHE, cache.toString());
+		}
+		builder.redirectOutput(Redirect.DISCARD).redirectError(Redirect.DISCARD);
+		long start = System.nanoTime();
+		Process process = builder.start();
+		assertTrue(process.waitFor(1, TimeUnit.MINUTES), "Node.js did not exit");
+		assertEquals(0, process.exitValue());
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+	}
+}
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wildwebdeveloper.tests;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.FileLocator;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.wildwebdeveloper.server.NodeHost;
+import org.eclipse.wildwebdeveloper.server.NodeHostChannel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(AllCleanRule.class)
+public class TestNodeHost {
+
+	private static final String INITIALIZE = "{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"initialize\",\"params\":{\"processId\":null,\"rootUri\":null,\"capabilities\":{}}}";
+
+	@Test
+	public void testServersShareHost() throws Exception {
+		NodeHostChannel json = NodeHost.open(List.of(getServerMain("vscode-json-languageserver/dist/node/jsonServerMain.js"), "--stdio"), null, 0);
+		NodeHostChannel css = NodeHost.open(List.of(getServerMain("vscode-css-languageserver/dist/node/cssServerMain.js"), "--stdio"), null, 0);
+		try {
+			assertTrue(initialize(json).contains("\"capabilities\""), "JSON server did not initialize");
+			assertTrue(initialize(css).contains("\"capabilities\""), "CSS server did not initialize");
+		} finally {
+			json.close();
+			css.close();
+		}
+		assertFalse(json.isAlive());
+		assertFalse(css.isAlive());
+	}
+
+	private static String getServerMain(String path) throws IOException {
+		return new File(FileLocator.toFileURL(Platform.getBundle("org.eclipse.wildwebdeveloper").getEntry("/node_modules/" + path)).getPath()).getAbsolutePath();
+	}
+
+	private static String initialize(NodeHostChannel channel) throws Exception {
+		byte[] content = INITIALIZE.getBytes(StandardCharsets.UTF_8);
+		OutputStream output = channel.getOutputStream();
+		output.write(("Content-Length: " + content.length + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+		output.write(content);
+		output.flush();
+		return CompletableFuture.supplyAsync(() -> readMessage(channel.getInputStream())).get(30, TimeUnit.SECONDS);
+	}
+
+	private static String readMessage(InputStream input) {
+		try {
+			int contentLength = -1;
+			String line;
+			while (!(line = readLine(input)).isEmpty()) {
+				if (line.startsWith("Content-Length:")) {
+					contentLength = Integer.parseInt(line.substring("Content-Length:".length()).trim());
+				}
+			}
+			return new String(input.readNBytes(contentLength), StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String readLine(InputStream input) throws IOException {
+		ByteArrayOutputStream line = new ByteArrayOutputStream();
+		int b;
+		while ((b = input.read()) != '\n') {
+			if (b < 0) {
+				throw new IOException("Server stopped");
+			}
+			if (b != '\r') {
+				line.write(b);
+			}
+		}
+		return line.toString(StandardCharsets.US_ASCII);
+	}
+}
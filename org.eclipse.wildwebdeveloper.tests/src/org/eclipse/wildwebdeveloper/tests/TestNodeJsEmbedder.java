@@ -12,7 +12,10 @@
  *******************************************************************************/
 package org.eclipse.wildwebdeveloper.tests;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -21,6 +24,7 @@ import java.io.InputStream;
 import java.net.URL;
 import java.nio.file.Files;
 import java.util.Properties;
+import java.util.stream.Stream;
 
 import org.eclipse.core.internal.runtime.InternalPlatform;
 import org.eclipse.core.runtime.FileLocator;
@@ -30,9 +34,15 @@ import org.eclipse.core.runtime.Platform;
 import org.eclipse.lsp4j.jsonrpc.validation.NonNull;
 import org.eclipse.osgi.service.datalocation.Location;
 import org.eclipse.wildwebdeveloper.embedder.node.Activator;
+import org.eclipse.wildwebdeveloper.embedder.node.CompressUtils;
+import org.eclipse.wildwebdeveloper.embedder.node.NodeJSCapability;
 import org.eclipse.wildwebdeveloper.embedder.node.NodeJSManager;
+import org.eclipse.wildwebdeveloper.embedder.node.NodeJSRuntimeResolver;
+import org.eclipse.wildwebdeveloper.embedder.node.NodeJSVersion;
+import org.eclipse.wildwebdeveloper.embedder.node.NodeJSVersionCache;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 
 @SuppressWarnings("restriction")
 @ExtendWith(AllCleanRule.class)
@@ -54,14 +64,18 @@ public class TestNodeJsEmbedder {
 				"Property \"archiveFile\" is not defined");
 		assertTrue(properties.getProperty("nodePath") != null && !properties.getProperty("nodePath").isEmpty(),
 				"Property \"nodePath\" is not defined");
+		assertTrue(properties.getProperty("nodeVersion") != null && !properties.getProperty("nodeVersion").isEmpty(),
+				"Property \"nodeVersion\" is not defined");
 
 		File nodePath = NodeJSManager.getNodeJsLocation();
 		assertNotNull(nodePath, "Node.Js location cannot be found");
 		assertTrue(nodePath.exists() && nodePath.canRead() && nodePath.canExecute(),
 				"Embedded NodeJs is not extracted");
 
-		assertNodeInstalledInOneOfLocations(nodePath, getOrderedInstallationLocations(),
-				properties.getProperty("nodePath"));
+		File installation = assertNodeInstalledInOneOfLocations(nodePath, getOrderedInstallationLocations(),
+				properties);
+		assertTrue(new File(installation, ".install-manifest.properties").isFile(),
+				"Embedded NodeJs installation has no manifest");
 	}
 
 	@Test
@@ -86,8 +100,7 @@ public class TestNodeJsEmbedder {
 		assertTrue(embeddedNodePath.exists() && embeddedNodePath.canRead() && embeddedNodePath.canExecute(),
 				"Embedded NodeJs is not extracted");
 
-		assertNodeInstalledInOneOfLocations(embeddedNodePath, getOrderedInstallationLocations(),
-				properties.getProperty("nodePath"));
+		assertNodeInstalledInOneOfLocations(embeddedNodePath, getOrderedInstallationLocations(), properties);
 
 		File whichNode = NodeJSManager.which("node");
 		assertTrue(
@@ -116,7 +129,125 @@ public class TestNodeJsEmbedder {
 		assertTrue(Platform.OS_WIN32.equals(Platform.getOS()) || Files.isSymbolicLink(npm.toPath()));
 	}
 
+	@Test
+	public void testNodeJsLocationIsResolvedOnce() {
+		NodeJSRuntimeResolver.invalidate();
+		long resolutions = NodeJSRuntimeResolver.getResolutionCount();
+		long cacheHits = NodeJSRuntimeResolver.getCacheHitCount();
+
+		File nodePath = NodeJSManager.getNodeJsLocation();
+		assertNotNull(nodePath, "Node.Js location cannot be found");
+		assertEquals(nodePath, NodeJSManager.getNodeJsLocation());
+		assertEquals(nodePath.getParentFile(), NodeJSManager.getNpmLocation().getParentFile());
+
+		assertEquals(resolutions + 1, NodeJSRuntimeResolver.getResolutionCount(),
+				"Node.js location should be resolved only once");
+		assertTrue(NodeJSRuntimeResolver.getCacheHitCount() >= cacheHits + 2,
+				"Subsequent calls should be answered from the cache");
+	}
+
+	@Test
+	public void testNodeJsLocationPropertyInvalidatesCache() {
+		File embeddedNodePath = NodeJSManager.getNodeJsLocation();
+		assertNotNull(embeddedNodePath, "Node.Js location cannot be found");
+		long resolutions = NodeJSRuntimeResolver.getResolutionCount();
+
+		System.setProperty("org.eclipse.wildwebdeveloper.nodeJSLocation", embeddedNodePath.getAbsolutePath());
+		try {
+			assertEquals(embeddedNodePath.getAbsoluteFile(), NodeJSManager.getNodeJsLocation().getAbsoluteFile());
+			assertEquals(resolutions + 1, NodeJSRuntimeResolver.getResolutionCount(),
+					"Changing the system property should trigger a new resolution");
+		} finally {
+			System.clearProperty("org.eclipse.wildwebdeveloper.nodeJSLocation");
+		}
+		assertEquals(embeddedNodePath, NodeJSManager.getNodeJsLocation());
+	}
+
+	@Test
+	public void testNodeJsVersion() {
+		assertEquals(new NodeJSVersion(24, 19, 0), NodeJSVersion.parse("v24.19.0"));
+		assertEquals(new NodeJSVersion(22, 1, 0), NodeJSVersion.parse("22.1.0-nightly2024"));
+		assertNull(NodeJSVersion.parse("node"));
+		assertTrue(NodeJSVersion.parse("v22.1.0").supports(NodeJSCapability.COMPILE_CACHE));
+		assertFalse(NodeJSVersion.parse("v22.0.9").supports(NodeJSCapability.COMPILE_CACHE));
+		assertTrue(NodeJSVersion.parse("v10.0.0").compareTo(NodeJSVersion.parse("v9.11.2")) > 0);
+	}
+
+	@Test
+	public void testEmbeddedNodeJsVersion() throws Exception {
+		URL nodeJsInfo = FileLocator.find(Activator.getDefault().getBundle(), new Path("nodejs-info.properties"));
+		assertNotNull(nodeJsInfo, "NodeJs descriptor \"nodejs-info.properties\" not found!");
+		Properties properties = new Properties();
+		try (InputStream infoStream = nodeJsInfo.openStream()) {
+			properties.load(infoStream);
+		}
+
+		NodeJSVersion version = NodeJSManager.getNodeJsVersion();
+		assertEquals(NodeJSVersion.parse(properties.getProperty("nodeVersion")), version);
+		long probes = NodeJSVersionCache.getProbeCount();
+		assertEquals(version, NodeJSManager.getNodeJsVersion());
+		assertEquals(probes, NodeJSVersionCache.getProbeCount(), "node -v run again for a cached version");
+
+		// as in a new session, the version is read from the state location
+		NodeJSVersionCache.reload();
+		assertEquals(version, NodeJSManager.getNodeJsVersion());
+		assertEquals(probes, NodeJSVersionCache.getProbeCount(), "Cached version not persisted");
+		assertTrue(NodeJSManager.supports(NodeJSCapability.WORKER_THREADS));
+	}
+
+	/**
+	 * Extracts the archive of the platform fragment with a single thread and with
+	 * the writer pool, checks both trees are identical and reports the throughput
+	 * of each.
+	 */
+	@Test
+	public void testUnarchiveEmbeddedNodeJs(@TempDir java.nio.file.Path tempDir) throws Exception {
+		URL nodeJsInfo = FileLocator.find(Activator.getDefault().getBundle(), new Path("nodejs-info.properties"));
+		assertNotNull(nodeJsInfo, "NodeJs descriptor \"nodejs-info.properties\" not found!");
+		Properties properties = new Properties();
+		try (InputStream infoStream = nodeJsInfo.openStream()) {
+			properties.load(infoStream);
+		}
+		URL archive = FileLocator.find(Activator.getDefault().getBundle(),
+				new Path(properties.getProperty("archiveFile")));
+		assertNotNull(archive, "Node.js archive not found");
+
+		File sequential = tempDir.resolve("sequential").toFile();
+		long sequentialTime = System.nanoTime();
+		CompressUtils.unarchive(archive, sequential, 1);
+		sequentialTime = System.nanoTime() - sequentialTime;
+
+		File pipelined = tempDir.resolve("pipelined").toFile();
+		long pipelinedTime = System.nanoTime();
+		CompressUtils.unarchive(archive, pipelined, CompressUtils.DEFAULT_WRITER_THREADS);
+		pipelinedTime = System.nanoTime() - pipelinedTime;
+
+		File nodePath = new File(pipelined, properties.getProperty("nodePath"));
+		assertTrue(nodePath.isFile() && nodePath.canExecute(), "Embedded NodeJs is not extracted");
+		long size = treeSize(sequential.toPath());
+		assertEquals(size, treeSize(pipelined.toPath()), "Extracted trees differ");
+
+		System.out.println("Extracted " + archive.getFile() + " (" + size / (1024 * 1024) + " MB): 1 writer "
+				+ throughput(size, sequentialTime) + " MB/s, " + CompressUtils.DEFAULT_WRITER_THREADS + " writers "
+				+ throughput(size, pipelinedTime) + " MB/s");
+	}
+
+	private static long treeSize(java.nio.file.Path root) throws Exception {
+		try (Stream<java.nio.file.Path> files = Files.walk(root)) {
+			return files.filter(Files::isRegularFile).mapToLong(file -> file.toFile().length()).sum();
+		}
+	}
+
+	private static long throughput(long bytes, long nanos) {
+		return bytes * 1_000_000_000L / Math.max(1, nanos) / (1024 * 1024);
+	}
+
 	private static final File[] getOrderedInstallationLocations() {
+		String sharedLocation = System.getProperty(NodeJSManager.SHARED_LOCATION_PROPERTY); // Shared location
+		File sharedLocationFile = sharedLocation == null
+				? new File(System.getProperty("user.home"), ".wildwebdeveloper/node")
+				: sharedLocation.isBlank() ? null : new File(sharedLocation);
+
 		Location installLocation = Platform.getInstallLocation(); // Platform Install Location, can be null
 		File installLocationFile = installLocation != null && installLocation.getURL() != null
 				? new File(installLocation.getURL().getFile(), NodeJSManager.NODE_ROOT_DIRECTORY)
@@ -132,19 +263,23 @@ public class TestNodeJsEmbedder {
 		assertNotNull(stateLocationPath, "State location cannot be found for plugin \"" + Activator.PLUGIN_ID + "\"");
 		File stateLocationFile = stateLocationPath.toFile();
 
-		return new File[] { installLocationFile, userLocationFile, stateLocationFile };
+		return new File[] { sharedLocationFile, installLocationFile, userLocationFile, stateLocationFile };
 	}
 
-	private static void assertNodeInstalledInOneOfLocations(@NonNull File nodePath, File[] locations,
-			String nodeRelativePath) {
+	/**
+	 * @return the version directory of the installation holding the given node
+	 */
+	private static File assertNodeInstalledInOneOfLocations(@NonNull File nodePath, File[] locations,
+			Properties properties) {
 		for (File location : locations) {
 			if (location != null) {
-				File embeddedNodePath = new File(location, nodeRelativePath);
+				File installation = new File(location, properties.getProperty("nodeVersion"));
+				File embeddedNodePath = new File(installation, properties.getProperty("nodePath"));
 				if (nodePath.equals(embeddedNodePath)) {
-					return;
+					return installation;
 				}
 			}
 		}
-		fail("Embedded NodeJs installation is not used");
+		return fail("Embedded NodeJs installation is not used");
 	}
 }
@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wildwebdeveloper.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.jface.preference.IPreferenceStore;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.lsp4e.LSPEclipseUtils;
+import org.eclipse.lsp4e.LanguageServers;
+import org.eclipse.lsp4j.DocumentSymbolParams;
+import org.eclipse.lsp4j.ServerCapabilities;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.eclipse.ui.PlatformUI;
+import org.eclipse.ui.ide.IDE;
+import org.eclipse.ui.tests.harness.util.DisplayHelper;
+import org.eclipse.ui.texteditor.AbstractTextEditor;
+import org.eclipse.wildwebdeveloper.Activator;
+import org.eclipse.wildwebdeveloper.json.JSonLanguageServer;
+import org.eclipse.wildwebdeveloper.json.ui.preferences.JSonPreferenceServerConstants;
+import org.eclipse.wildwebdeveloper.server.RunningLanguageServers;
+import org.eclipse.wildwebdeveloper.ui.preferences.ProcessStreamConnectionProviderWithPreference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(AllCleanRule.class)
+public class TestPreferenceNotifications {
+
+	private static final int KEYS = 30;
+
+	private final IPreferenceStore store = Activator.getDefault().getPreferenceStore();
+
+	@AfterEach
+	public void resetPreference() {
+		store.setValue(JSonPreferenceServerConstants.JSON_PREFERENCES_MAXITEMSCOMPUTED,
+				JSonPreferenceServerConstants.MAXITEMSCOMPUTED_DEFAULT);
+	}
+
+	@Test
+	public void testChangesCoalesced() throws Exception {
+		IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject("coalesced");
+		project.create(null);
+		project.open(null);
+		StringBuilder content = new StringBuilder("{\n");
+		for (int i = 0; i < KEYS; i++) {
+			content.append("  \"key_").append(i).append("\": ").append(i).append(i == KEYS - 1 ? "\n" : ",\n");
+		}
+		content.append("}\n");
+		IFile file = project.getFile("coalesced.json");
+		file.create(content.toString().getBytes(StandardCharsets.UTF_8), true, false, null);
+		AbstractTextEditor editor = (AbstractTextEditor) IDE.openEditor(
+				PlatformUI.getWorkbench().getActiveWorkbenchWindow().getActivePage(), file,
+				"org.eclipse.ui.genericeditor.GenericEditor");
+		IDocument document = LSPEclipseUtils.getDocument(editor);
+		DisplayHelper.sleep(2000);
+		assertEquals(KEYS, countSymbols(document));
+		assertEquals(1, RunningLanguageServers.get(JSonLanguageServer.class).size(),
+				"Running JSON language server not registered");
+
+		long sent = ProcessStreamConnectionProviderWithPreference.getSentNotifications();
+		long coalesced = ProcessStreamConnectionProviderWithPreference.getCoalescedNotifications();
+		// like Apply in a preference page, several changes at once
+		for (int limit = 10; limit < 15; limit++) {
+			store.setValue(JSonPreferenceServerConstants.JSON_PREFERENCES_MAXITEMSCOMPUTED, limit);
+		}
+		DisplayHelper.sleep(1500);
+
+		assertEquals(1, ProcessStreamConnectionProviderWithPreference.getSentNotifications() - sent,
+				"Changes not sent in a single notification");
+		assertEquals(4, ProcessStreamConnectionProviderWithPreference.getCoalescedNotifications() - coalesced);
+		assertEquals(14, countSymbols(document), "Last change not sent");
+	}
+
+	private static int countSymbols(IDocument document) throws Exception {
+		DocumentSymbolParams params = new DocumentSymbolParams(
+				new TextDocumentIdentifier(LSPEclipseUtils.toUri(document).toString()));
+		List<Integer> counts = LanguageServers.forDocument(document)
+				.withCapability(ServerCapabilities::getDocumentSymbolProvider)
+				.collectAll(server -> server.getTextDocumentService().documentSymbol(params).thenApply(List::size))
+				.get(10, TimeUnit.SECONDS);
+		return counts.stream().mapToInt(Integer::intValue).max().orElse(0);
+	}
+}
@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wildwebdeveloper.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.wildwebdeveloper.server.ProcessBudget;
+import org.eclipse.wildwebdeveloper.server.ProcessBudget.Usage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+public class TestProcessBudget {
+
+	private static final long MB = 1024 * 1024;
+
+	@Test
+	public void testCountCapStopsLeastRecentlyUsedIdleServers() {
+		List<Usage<String>> servers = List.of(new Usage<>("recent", false, 300, 0),
+				new Usage<>("oldest", false, 100, 0), new Usage<>("older", false, 200, 0));
+		// 4 running with the one just started, 2 allowed
+		assertEquals(List.of("oldest", "older"), ProcessBudget.selectServersToStop(servers, 4, 0, 2, 0));
+		assertEquals(List.of(), ProcessBudget.selectServersToStop(servers, 4, 0, 4, 0));
+		assertEquals(List.of(), ProcessBudget.selectServersToStop(servers, 4, 0, 0, 0));
+	}
+
+	@Test
+	public void testServersWithOpenDocumentsNotStopped() {
+		List<Usage<String>> servers = List.of(new Usage<>("open", true, 100, 0),
+				new Usage<>("idle", false, 200, 0), new Usage<>("alsoOpen", true, 50, 0));
+		assertEquals(List.of("idle"), ProcessBudget.selectServersToStop(servers, 4, 0, 1, 0),
+				"Only idle servers may be stopped, even over the limit");
+	}
+
+	@Test
+	public void testMemoryCapStopsUntilWithinBudget() {
+		List<Usage<String>> servers = List.of(new Usage<>("small", false, 100, 50 * MB),
+				new Usage<>("large", false, 200, 400 * MB), new Usage<>("recent", false, 300, 400 * MB));
+		// 1000MB used, 600MB allowed: the least recently used go first, whatever their size
+		assertEquals(List.of("small", "large"), ProcessBudget.selectServersToStop(servers, 4, 1000 * MB, 0, 600 * MB));
+		assertEquals(List.of(), ProcessBudget.selectServersToStop(servers, 4, 500 * MB, 0, 600 * MB));
+		// shared processes free nothing, so all idle servers are stopped
+		List<Usage<String>> shared = List.of(new Usage<>("a", false, 100, 0), new Usage<>("b", false, 200, 0));
+		assertEquals(List.of("a", "b"), ProcessBudget.selectServersToStop(shared, 3, 1000 * MB, 0, 600 * MB));
+	}
+
+	@Test
+	@DisabledOnOs(OS.WINDOWS)
+	public void testResidentMemory() throws Exception {
+		Process child = new ProcessBuilder(Platform.OS_MACOSX.equals(Platform.getOS()) ? "/bin/sleep" : "sleep", "30")
+				.start();
+		try {
+			long own = ProcessBudget.getResidentMemory(child.toHandle());
+			assertTrue(own > 0, "Resident memory of a process not measured");
+			long withChildren = ProcessBudget.getResidentMemory(ProcessHandle.current());
+			assertTrue(withChildren > own, "Resident memory of child processes not counted");
+		} finally {
+			child.destroy();
+			child.waitFor();
+		}
+		assertEquals(0, ProcessBudget.getResidentMemory(child.toHandle()));
+	}
+}
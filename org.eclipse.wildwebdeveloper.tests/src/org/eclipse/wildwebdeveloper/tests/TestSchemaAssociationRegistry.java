@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wildwebdeveloper.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.eclipse.wildwebdeveloper.SchemaAssociationRegistry;
+import org.junit.jupiter.api.Test;
+
+public class TestSchemaAssociationRegistry {
+
+	@Test
+	public void testContributedSchemaTranslatedOnce() {
+		String url = "platform:/plugin/org.eclipse.wildwebdeveloper.tests/resources/dependabot.json";
+		String fileURL = SchemaAssociationRegistry.translate(url);
+		assertTrue(fileURL.startsWith("file:"), fileURL);
+		assertSame(fileURL, SchemaAssociationRegistry.translate(url), "Schema URL translated again");
+	}
+
+	@Test
+	public void testFileSchemaUnchanged() {
+		String url = "file:/tmp/schema.json";
+		assertEquals(url, SchemaAssociationRegistry.translate(url));
+	}
+}
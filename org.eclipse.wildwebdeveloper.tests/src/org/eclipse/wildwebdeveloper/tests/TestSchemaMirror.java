@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wildwebdeveloper.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.wildwebdeveloper.SchemaMirror;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestSchemaMirror {
+
+	private static final String SCHEMA = "{\"type\":\"object\"}";
+	private static final String ETAG = "\"1\"";
+
+	// the If-None-Match header of each request, or an empty string
+	private final List<String> requests = new CopyOnWriteArrayList<>();
+	private volatile String schema = SCHEMA;
+
+	@TempDir
+	Path directory;
+
+	// answers 304 to requests with the ETag of the schema, and the schema otherwise
+	private void serve(ServerSocket server) {
+		while (!server.isClosed()) {
+			try (Socket socket = server.accept()) {
+				BufferedReader reader = new BufferedReader(
+						new InputStreamReader(socket.getInputStream(), StandardCharsets.ISO_8859_1));
+				String ifNoneMatch = "";
+				for (String line = reader.readLine(); line != null && !line.isEmpty(); line = reader.readLine()) {
+					if (line.toLowerCase().startsWith("if-none-match:")) {
+						ifNoneMatch = line.substring("if-none-match:".length()).trim();
+					}
+				}
+				requests.add(ifNoneMatch);
+				byte[] body = schema.getBytes(StandardCharsets.UTF_8);
+				String response = ETAG.equals(ifNoneMatch)
+						? "HTTP/1.1 304 Not Modified\r\nETag: " + ETAG + "\r\nConnection: close\r\n\r\n"
+						: "HTTP/1.1 200 OK\r\nETag: " + ETAG + "\r\nContent-Type: application/json\r\nContent-Length: "
+								+ body.length + "\r\nConnection: close\r\n\r\n";
+				OutputStream output = socket.getOutputStream();
+				output.write(response.getBytes(StandardCharsets.ISO_8859_1));
+				if (!ETAG.equals(ifNoneMatch)) {
+					output.write(body);
+				}
+				output.flush();
+			} catch (IOException e) {
+				// closed
+			}
+		}
+	}
+
+	@Test
+	public void testMirrorRevalidatedAndUsedOffline() throws Exception {
+		String url;
+		try (ServerSocket server = new ServerSocket(0, 0, InetAddress.getLoopbackAddress())) {
+			Thread thread = new Thread(() -> serve(server), "Schema server");
+			thread.setDaemon(true);
+			thread.start();
+			url = "http://127.0.0.1:" + server.getLocalPort() + "/schema.json";
+
+			SchemaMirror mirror = new SchemaMirror(directory, Duration.ofDays(1));
+			assertTrue(mirror.fetch(url));
+			assertEquals(1, mirror.getDownloads());
+			String localURL = mirror.toLocalURL(url);
+			assertTrue(localURL.startsWith("file:"), localURL);
+			assertEquals(SCHEMA, Files.readString(Path.of(URI.create(localURL))));
+			assertEquals(List.of(""), requests);
+
+			// expired at once, so revalidated
+			SchemaMirror expiredMirror = new SchemaMirror(directory, Duration.ZERO);
+			assertTrue(expiredMirror.fetch(url));
+			assertEquals(1, expiredMirror.getRevalidations());
+			assertEquals(0, expiredMirror.getDownloads());
+			assertEquals(List.of("", ETAG), requests);
+		}
+
+		SchemaMirror offlineMirror = new SchemaMirror(directory, Duration.ofDays(1));
+		assertFalse(offlineMirror.fetch(url), "Schema fetched from a stopped server");
+		String localURL = offlineMirror.toLocalURL(url);
+		assertTrue(localURL.startsWith("file:"), "Local copy not used offline: " + localURL);
+		assertEquals(SCHEMA, Files.readString(Path.of(URI.create(localURL))));
+	}
+
+	@Test
+	public void testSchemaWithRelativeRefsNotRewritten() throws Exception {
+		try (ServerSocket server = new ServerSocket(0, 0, InetAddress.getLoopbackAddress())) {
+			Thread thread = new Thread(() -> serve(server), "Schema server");
+			thread.setDaemon(true);
+			thread.start();
+			String base = "http://127.0.0.1:" + server.getLocalPort();
+			SchemaMirror mirror = new SchemaMirror(directory, Duration.ofDays(1));
+
+			schema = "{\"properties\":{\"a\":{\"$ref\":\"definitions.json#/a\"},\"b\":{\"$ref\":\"#/b\"}}}";
+			assertTrue(mirror.fetch(base + "/relative.json"));
+			assertEquals(base + "/relative.json", mirror.toLocalURL(base + "/relative.json"),
+					"Schema with relative references rewritten");
+
+			schema = "{\"$id\":\"https://example.org/absolute.json\",\"properties\":{\"a\":{\"$ref\":\"definitions.json#/a\"}}}";
+			assertTrue(mirror.fetch(base + "/absolute.json"));
+			assertTrue(mirror.toLocalURL(base + "/absolute.json").startsWith("file:"),
+					"Schema with an absolute $id not rewritten");
+		}
+	}
+}
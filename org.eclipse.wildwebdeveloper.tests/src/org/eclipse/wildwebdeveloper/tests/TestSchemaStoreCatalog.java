@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wildwebdeveloper.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.wildwebdeveloper.yaml.SchemaStoreCatalog;
+import org.junit.jupiter.api.Test;
+
+public class TestSchemaStoreCatalog {
+
+	private static final String CATALOG = """
+			{
+				"version": 1,
+				"schemas": [
+					{ "name": "package.json", "url": "https://json.schemastore.org/package.json", "fileMatch": ["package.json"] },
+					{ "name": "GitHub Workflow", "url": "https://json.schemastore.org/github-workflow.json",
+						"fileMatch": ["**/.github/workflows/*.yml", "**/.github/workflows/*.yaml"] },
+					{ "name": "docker-compose", "url": "https://json.schemastore.org/docker-compose.json",
+						"fileMatch": ["docker-compose.json", "docker-compose.yml", "compose.*.{yml,yaml}"] },
+					{ "name": "no file match", "url": "https://json.schemastore.org/none.json" }
+				]
+			}
+			""";
+
+	@Test
+	public void testOnlyYAMLPatternsKept() {
+		Map<String, List<String>> associations = SchemaStoreCatalog.compile(new StringReader(CATALOG));
+		assertEquals(Map.of(
+				"https://json.schemastore.org/github-workflow.json",
+				List.of("**/.github/workflows/*.yml", "**/.github/workflows/*.yaml"),
+				"https://json.schemastore.org/docker-compose.json",
+				List.of("docker-compose.yml", "compose.*.{yml,yaml}")), associations);
+	}
+
+	@Test
+	public void testMatchOnFileName() {
+		Map<String, List<String>> associations = SchemaStoreCatalog.compile(new StringReader("""
+				{
+					"schemas": [
+						{ "name": "yml tooling", "url": "https://json.schemastore.org/yml-tooling.json",
+							"fileMatch": ["**/yml/config.json", ".ymlrc.json", "yaml-schema.json", "*.ymlconfig"] },
+						{ "name": "yamllint", "url": "https://json.schemastore.org/yamllint.json",
+							"fileMatch": [".yamllint", ".yamllint.json", "**/lint/*.{json,yaml}"] }
+					]
+				}
+				"""));
+		assertEquals(Map.of("https://json.schemastore.org/yamllint.json",
+				List.of(".yamllint", "**/lint/*.{json,yaml}")), associations);
+	}
+}
@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wildwebdeveloper.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.lsp4j.DidChangeConfigurationParams;
+import org.eclipse.lsp4j.DidChangeWatchedFilesParams;
+import org.eclipse.lsp4j.services.LanguageServer;
+import org.eclipse.lsp4j.services.WorkspaceService;
+import org.eclipse.wildwebdeveloper.xml.internal.shared.SettingsPushes;
+import org.junit.jupiter.api.Test;
+
+public class TestSettingsPushes {
+
+	private final List<Object> received = new ArrayList<>();
+
+	private LanguageServer createServer() {
+		WorkspaceService workspaceService = new WorkspaceService() {
+			@Override
+			public void didChangeConfiguration(DidChangeConfigurationParams params) {
+				received.add(params.getSettings());
+			}
+
+			@Override
+			public void didChangeWatchedFiles(DidChangeWatchedFilesParams params) {
+			}
+		};
+		return (LanguageServer) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] { LanguageServer.class }, (proxy, method, args) -> switch (method.getName()) {
+				case "getWorkspaceService" -> workspaceService;
+				case "hashCode" -> System.identityHashCode(proxy);
+				case "equals" -> proxy == args[0];
+				default -> null;
+				});
+	}
+
+	@Test
+	public void testUnchangedSettingsSkipped() {
+		LanguageServer server = createServer();
+		long sent = SettingsPushes.getSentPushes();
+		long skipped = SettingsPushes.getSkippedPushes();
+
+		assertTrue(SettingsPushes.push(server, Map.of("json", Map.of("validate", true), "http", Map.of())));
+		assertFalse(SettingsPushes.push(server, Map.of("json", Map.of("validate", true), "http", Map.of())),
+				"Unchanged settings sent");
+		assertTrue(SettingsPushes.push(server, Map.of("json", Map.of("validate", false), "http", Map.of())),
+				"Changed section not sent");
+		assertTrue(SettingsPushes.push(server, Map.of("json", Map.of("validate", false))), "Removed section not sent");
+		assertTrue(SettingsPushes.push(createServer(), Map.of("json", Map.of("validate", false))),
+				"Settings not sent to another server");
+
+		assertEquals(4, received.size());
+		assertEquals(4, SettingsPushes.getSentPushes() - sent);
+		assertEquals(1, SettingsPushes.getSkippedPushes() - skipped);
+	}
+}
@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wildwebdeveloper.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jface.preference.IPreferenceStore;
+import org.eclipse.wildwebdeveloper.Activator;
+import org.eclipse.wildwebdeveloper.ui.preferences.Settings;
+import org.eclipse.wildwebdeveloper.ui.preferences.SettingsSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class TestSettingsSnapshot {
+
+	private static final String PREFERENCE = "test.lint.level";
+
+	private final IPreferenceStore store = Activator.getDefault().getPreferenceStore();
+	private final AtomicInteger builds = new AtomicInteger();
+	private final SettingsSnapshot snapshot = new SettingsSnapshot(() -> {
+		builds.incrementAndGet();
+		Settings settings = new Settings(store);
+		settings.fillAsString(PREFERENCE);
+		return settings;
+	});
+
+	@AfterEach
+	public void resetPreference() {
+		store.setToDefault(PREFERENCE);
+	}
+
+	@Test
+	public void testSharedUntilPreferencesChange() {
+		store.setValue(PREFERENCE, "warning");
+		Object lint = snapshot.findSettings("test.lint");
+		assertEquals(Map.of("level", "warning"), lint);
+		assertSame(lint, snapshot.findSettings("test.lint"));
+		assertSame(((Map<?, ?>) snapshot.findSettings("test")).get("lint"), lint);
+		assertNull(snapshot.findSettings("test.lint.level"), "Settings found for a value");
+		assertNull(snapshot.findSettings("unknown"));
+		assertEquals(1, builds.get());
+
+		long version = SettingsSnapshot.getVersion();
+		store.setValue(PREFERENCE, "error");
+		assertTrue(SettingsSnapshot.getVersion() > version, "Version not incremented");
+		assertEquals(Map.of("level", "error"), snapshot.findSettings("test.lint"));
+		assertEquals(2, builds.get());
+	}
+
+	@Test
+	public void testImmutable() {
+		@SuppressWarnings("unchecked")
+		Map<String, Object> settings = (Map<String, Object>) snapshot.findSettings("test");
+		assertThrows(UnsupportedOperationException.class, () -> settings.put("lint", null));
+	}
+}
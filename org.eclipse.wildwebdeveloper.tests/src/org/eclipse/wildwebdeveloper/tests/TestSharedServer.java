@@ -0,0 +1,207 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wildwebdeveloper.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.jface.preference.IPreferenceStore;
+import org.eclipse.wildwebdeveloper.Activator;
+import org.eclipse.wildwebdeveloper.embedder.node.NodeJSManager;
+import org.eclipse.wildwebdeveloper.server.ManagedProcessStreamConnectionProvider;
+import org.eclipse.wildwebdeveloper.server.ui.preferences.LanguageServersPreferenceConstants;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestSharedServer {
+
+	// answers initialize with its root, echoes requests, reports added folders and the responses to its requests
+	private static final String SERVER = """
+			let buffer = Buffer.alloc(0);
+			const send = message => {
+				const content = JSON.stringify(message);
+				process.stdout.write(`Content-Length: ${Buffer.byteLength(content)}\\r\\n\\r\\n${content}`);
+			};
+			process.stdin.on('data', data => {
+				buffer = Buffer.concat([buffer, data]);
+				for (;;) {
+					const headerEnd = buffer.indexOf('\\r\\n\\r\\n');
+					if (headerEnd < 0) return;
+					const length = parseInt(/Content-Length: *(\\d+)/i.exec(buffer.subarray(0, headerEnd).toString())[1]);
+					if (buffer.length < headerEnd + 4 + length) return;
+					const message = JSON.parse(buffer.subarray(headerEnd + 4, headerEnd + 4 + length).toString());
+					buffer = buffer.subarray(headerEnd + 4 + length);
+					if (message.method === 'initialize') {
+						send({ jsonrpc: '2.0', id: message.id, result: { capabilities: {}, root: message.params.rootUri } });
+					} else if (message.method === 'workspace/didChangeWorkspaceFolders') {
+						const folder = message.params.event.added[0];
+						send({ jsonrpc: '2.0', method: 'test/added', params: { uri: folder.uri } });
+					} else if (message.method === 'test/echo') {
+						send({ jsonrpc: '2.0', id: message.id, result: message.params });
+					} else if (message.method === 'test/request') {
+						send({ jsonrpc: '2.0', id: 'register', method: 'client/registerCapability',
+							params: { registrations: [{ id: 'watch', method: 'workspace/didChangeWatchedFiles' }] } });
+						send({ jsonrpc: '2.0', id: 'configuration', method: 'workspace/configuration',
+							params: { items: [{ scopeUri: 'file:///second/a.js' }, { scopeUri: 'file:///first/b.js' }] } });
+					} else if (message.method === undefined) {
+						send({ jsonrpc: '2.0', method: 'test/answered', params: { id: message.id, result: message.result } });
+					} else if (message.method === 'shutdown') {
+						send({ jsonrpc: '2.0', id: message.id, result: null });
+					} else if (message.method === 'exit') {
+						process.exit(0);
+					}
+				}
+			});
+			""";
+
+	private static final class MultiRootServer extends ManagedProcessStreamConnectionProvider {
+		MultiRootServer() {
+			setCommands(List.of(NodeJSManager.getNodeJsLocation().getAbsolutePath(), "-e", SERVER));
+			setWorkingDirectory(System.getProperty("user.dir"));
+		}
+
+		@Override
+		protected boolean canShareInstance() {
+			return true;
+		}
+	}
+
+	private final IPreferenceStore store = Activator.getDefault().getPreferenceStore();
+
+	@BeforeEach
+	public void enableSharedInstances() {
+		store.setValue(LanguageServersPreferenceConstants.LANGUAGE_SERVERS_PREFERENCES_SHARED_INSTANCES, true);
+	}
+
+	@AfterEach
+	public void disableSharedInstances() {
+		store.setToDefault(LanguageServersPreferenceConstants.LANGUAGE_SERVERS_PREFERENCES_SHARED_INSTANCES);
+	}
+
+	@Test
+	public void testProjectsAsWorkspaceFolders() throws Exception {
+		MultiRootServer first = new MultiRootServer();
+		MultiRootServer second = new MultiRootServer();
+		first.start();
+		second.start();
+		try {
+			send(first, initialize("file:///first"));
+			send(second, initialize("file:///second"));
+			assertTrue(read(first).contains("\"root\":\"file:///first\""));
+			assertTrue(read(second).contains("\"root\":\"file:///first\""), "Second project did not share the server");
+
+			send(first, "{\"jsonrpc\":\"2.0\",\"method\":\"initialized\",\"params\":{}}");
+			send(second, "{\"jsonrpc\":\"2.0\",\"method\":\"initialized\",\"params\":{}}");
+			String added = read(second);
+			assertTrue(added.contains("\"method\":\"test/added\""), added);
+			assertTrue(added.contains("\"uri\":\"file:///second\""), "Project not added as workspace folder");
+
+			// same request id from both projects
+			send(first, "{\"jsonrpc\":\"2.0\",\"id\":2,\"method\":\"test/echo\",\"params\":{\"from\":\"first\"}}");
+			send(second, "{\"jsonrpc\":\"2.0\",\"id\":2,\"method\":\"test/echo\",\"params\":{\"from\":\"second\"}}");
+			assertEquals("{\"jsonrpc\":\"2.0\",\"id\":2,\"result\":{\"from\":\"first\"}}", read(first));
+			assertEquals("{\"jsonrpc\":\"2.0\",\"id\":2,\"result\":{\"from\":\"second\"}}", read(second));
+		} finally {
+			first.stop();
+			second.stop();
+		}
+	}
+
+	@Test
+	public void testServerRequestsSentToEveryProject() throws Exception {
+		MultiRootServer first = new MultiRootServer();
+		MultiRootServer second = new MultiRootServer();
+		MultiRootServer third = new MultiRootServer();
+		first.start();
+		second.start();
+		try {
+			send(first, initialize("file:///first"));
+			send(second, initialize("file:///second"));
+			read(first);
+			read(second);
+			send(first, "{\"jsonrpc\":\"2.0\",\"method\":\"initialized\",\"params\":{}}");
+			send(second, "{\"jsonrpc\":\"2.0\",\"method\":\"initialized\",\"params\":{}}");
+			read(second); // folder added
+
+			send(first, "{\"jsonrpc\":\"2.0\",\"method\":\"test/request\",\"params\":{}}");
+			String registration = read(first);
+			assertTrue(registration.contains("client/registerCapability"), registration);
+			String configuration = read(first);
+			assertTrue(configuration.contains("\"items\":[{\"scopeUri\":\"file:///first/b.js\"}]"), configuration);
+			respond(first, registration, "null");
+			respond(first, configuration, "[\"first\"]");
+			registration = read(second);
+			assertTrue(registration.contains("client/registerCapability"), "Registration not sent to every project");
+			configuration = read(second);
+			assertTrue(configuration.contains("\"items\":[{\"scopeUri\":\"file:///second/a.js\"}]"), configuration);
+			respond(second, registration, "null");
+			respond(second, configuration, "[\"second\"]");
+			assertTrue(read(first).contains("\"id\":\"register\""));
+			String answered = read(first);
+			assertTrue(answered.contains("\"result\":[\"second\",\"first\"]"), answered);
+
+			// registered again for a project opened later
+			third.start();
+			send(third, initialize("file:///third"));
+			read(third);
+			send(third, "{\"jsonrpc\":\"2.0\",\"method\":\"initialized\",\"params\":{}}");
+			String messages = read(third) + read(third);
+			assertTrue(messages.contains("\"method\":\"client/registerCapability\""), messages);
+			assertTrue(messages.contains("\"id\":\"watch\""), messages);
+		} finally {
+			first.stop();
+			second.stop();
+			third.stop();
+		}
+	}
+
+	private static String initialize(String root) {
+		return "{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"initialize\",\"params\":{\"rootUri\":\"" + root
+				+ "\",\"workspaceFolders\":[{\"uri\":\"" + root + "\",\"name\":\"root\"}]}}";
+	}
+
+	private static void respond(ManagedProcessStreamConnectionProvider server, String request, String result)
+			throws IOException {
+		Matcher id = Pattern.compile("\"id\":(\"[^\"]*\"|\\d+)").matcher(request);
+		assertTrue(id.find(), request);
+		send(server, "{\"jsonrpc\":\"2.0\",\"id\":" + id.group(1) + ",\"result\":" + result + "}");
+	}
+
+	private static void send(ManagedProcessStreamConnectionProvider server, String message) throws IOException {
+		byte[] content = message.getBytes(StandardCharsets.UTF_8);
+		OutputStream output = server.getOutputStream();
+		output.write(("Content-Length: " + content.length + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+		output.write(content);
+		output.flush();
+	}
+
+	private static String read(ManagedProcessStreamConnectionProvider server) throws IOException {
+		InputStream input = server.getInputStream();
+		StringBuilder headers = new StringBuilder();
+		while (!headers.toString().endsWith("\r\n\r\n")) {
+			int b = input.read();
+			if (b < 0) {
+				throw new IOException("Server stopped");
+			}
+			headers.append((char) b);
+		}
+		int length = Integer.parseInt(headers.toString().replaceAll("(?s).*Content-Length: *(\\d+).*", "$1"));
+		return new String(input.readNBytes(length), StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wildwebdeveloper.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.wildwebdeveloper.embedder.node.ShellEnvironment;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestShellEnvironment {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	public void testWhichDoesNotWaitForTheCapture() {
+		// answered at once whether or not the login shell has printed its environment
+		assertTimeoutPreemptively(Duration.ofSeconds(5),
+				() -> assertNull(ShellEnvironment.which("wildwebdeveloper-missing-program")));
+	}
+
+	@Test
+	public void testWhichTriesPathExt() throws Exception {
+		File script = createExecutable("tool");
+		File command = createExecutable("tool.cmd");
+		Map<String, String> environment = Map.of("PATH", directory.toString(), "PATHEXT", ".EXE;.CMD");
+		assertEquals(command, ShellEnvironment.which("tool", environment));
+		// PATHEXT has a default on Windows only
+		assertEquals(Platform.OS_WIN32.equals(Platform.getOS()) ? command : script,
+				ShellEnvironment.which("tool", Map.of("Path", directory.toString())));
+		assertNull(ShellEnvironment.which("missing", environment));
+	}
+
+	private File createExecutable(String name) throws Exception {
+		File file = Files.createFile(directory.resolve(name)).toFile();
+		file.setExecutable(true);
+		return file;
+	}
+}
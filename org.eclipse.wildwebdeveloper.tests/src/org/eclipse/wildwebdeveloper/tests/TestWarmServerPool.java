@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wildwebdeveloper.tests;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.lsp4e.LanguageServiceAccessor;
+import org.eclipse.ui.IWorkbenchPage;
+import org.eclipse.ui.PlatformUI;
+import org.eclipse.ui.ide.IDE;
+import org.eclipse.ui.tests.harness.util.DisplayHelper;
+import org.eclipse.ui.texteditor.ITextEditor;
+import org.eclipse.wildwebdeveloper.server.WarmServerPool;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(AllCleanRule.class)
+public class TestWarmServerPool {
+
+	@Test
+	public void testTimeToFirstDiagnostic() throws Exception {
+		long cold = timeToFirstDiagnostic("cold");
+		PlatformUI.getWorkbench().getActiveWorkbenchWindow().getActivePage().closeAllEditors(false);
+		LanguageServiceAccessor.clearStartedServers();
+		DisplayHelper.sleep(1000);
+
+		assertTrue(WarmServerPool.prepare("css"), "Standby process not started");
+		DisplayHelper.sleep(3000); // Let Node.js load the server
+		long warm = timeToFirstDiagnostic("warm");
+		assertFalse(WarmServerPool.hasStandby("css"), "Standby process not taken over");
+		System.out.println("Time to first CSS diagnostic: " + cold + "ms without standby process, " + warm
+				+ "ms with standby process");
+	}
+
+	private static long timeToFirstDiagnostic(String projectName) throws Exception {
+		IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject(projectName);
+		project.create(null);
+		project.open(null);
+		IFile file = project.getFile("blah.css");
+		file.create("ERROR".getBytes(), true, false, null);
+		IWorkbenchPage activePage = PlatformUI.getWorkbench().getActiveWorkbenchWindow().getActivePage();
+		long start = System.currentTimeMillis();
+		ITextEditor editor = (ITextEditor) IDE.openEditor(activePage, file);
+		editor.getDocumentProvider().getDocument(editor.getEditorInput()).set("FAIL");
+		assertTrue(DisplayHelper.waitForCondition(PlatformUI.getWorkbench().getDisplay(), 10000, () -> {
+			try {
+				return file.findMarkers("org.eclipse.lsp4e.diagnostic", true, IResource.DEPTH_ZERO).length != 0;
+			} catch (CoreException e) {
+				return false;
+			}
+		}), "Diagnostic not published");
+		return System.currentTimeMillis() - start;
+	}
+}
@@ -39,7 +39,13 @@ import org.eclipse.lsp4e.LanguageServers;
 import org.eclipse.lsp4e.LanguageServersRegistry;
 import org.eclipse.lsp4e.LanguageServersRegistry.LanguageServerDefinition;
 import org.eclipse.lsp4e.server.ProcessStreamConnectionProvider;
-import org.eclipse.lsp4j.DidChangeConfigurationParams;
+import org.eclipse.lsp4j.InitializeResult;
+import org.eclipse.lsp4j.jsonrpc.messages.Message;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseMessage;
+import org.eclipse.lsp4j.services.LanguageServer;
+import org.eclipse.wildwebdeveloper.xml.internal.shared.IdleStop;
+import org.eclipse.wildwebdeveloper.xml.internal.shared.SettingsPushes;
+import org.eclipse.wildwebdeveloper.xml.internal.ui.preferences.XMLPreferenceClientConstants;
 import org.eclipse.wildwebdeveloper.xml.internal.ui.preferences.XMLPreferenceServerConstants;
 import org.osgi.framework.Bundle;
 import org.osgi.framework.BundleContext;
@@ -48,6 +54,7 @@ import org.osgi.framework.ServiceReference;
 import org.osgi.framework.wiring.BundleWire;
 import org.osgi.framework.wiring.BundleWiring;
 
+
 @SuppressWarnings("restriction")
 public class XMLLanguageServer extends ProcessStreamConnectionProvider {
 	
@@ -74,26 +81,26 @@ public class XMLLanguageServer extends ProcessStreamConnectionProvider {
 	
 	private final IPropertyChangeListener psListener = event -> {
 		XMLPreferenceServerConstants.getLemminxPreference(event).ifPresent(pref -> {
-			Map<String, Object> config = mergeCustomInitializationOptions(
-					extensionJarRegistry.getInitiatizationOptions());
-
-			@SuppressWarnings("rawtypes")
-			DidChangeConfigurationParams params = new DidChangeConfigurationParams(
-					Collections.singletonMap(XML_KEY, ((Map) config.get(SETTINGS_KEY)).get(XML_KEY)));
+			Object settings = getXMLSettings();
 
 			LanguageServers.forProject(null).withPreferredServer(lemminxDefinition).excludeInactive()
 					.collectAll((w, ls) -> CompletableFuture.completedFuture(ls)).thenAccept(
-							lss -> lss.stream().forEach(ls -> ls.getWorkspaceService().didChangeConfiguration(params)));
+							lss -> lss.stream().forEach(ls -> SettingsPushes.push(ls, settings)));
 		});
 	};
 
 	private final String logLevelString;
+	private final IdleStop idleStop = new IdleStop("XML Language Server", this::stop);
 
 	public XMLLanguageServer() {
 		List<String> commands = new ArrayList<>();
 		List<String> jarPaths = new ArrayList<>();
 		commands.add(computeJavaPath());
 		commands.addAll(getProxySettings());
+		int maxMemory = store.getInt(XMLPreferenceClientConstants.XML_PREFERENCES_SERVER_MAX_MEMORY);
+		if (maxMemory > 0) {
+			commands.add("-Xmx" + maxMemory + "m");
+		}
 		String debugPortString = System.getProperty(getClass().getName() + ".debugPort");
 		if (debugPortString != null) {
 			commands.add("-agentlib:jdwp=transport=dt_socket,server=y,suspend=y,address=" + debugPortString);
@@ -206,6 +213,12 @@ public class XMLLanguageServer extends ProcessStreamConnectionProvider {
 		return initializationOptions;
 	}
 
+	@SuppressWarnings("rawtypes")
+	private Object getXMLSettings() {
+		Map<String, Object> config = mergeCustomInitializationOptions(extensionJarRegistry.getInitiatizationOptions());
+		return Collections.singletonMap(XML_KEY, ((Map) config.get(SETTINGS_KEY)).get(XML_KEY));
+	}
+
 	private static Object createExtendedClientCapabilities() {
 		Map<String, Object> extendedClientCapabilities = new HashMap<>();
 		Map<String, Object> codeLens = new HashMap<>();
@@ -231,14 +244,25 @@ public class XMLLanguageServer extends ProcessStreamConnectionProvider {
 	public void start() throws IOException {
 		super.start();
 		store.addPropertyChangeListener(psListener);
+		idleStop.started();
 	}
 
 	@Override
 	public void stop() {
+		idleStop.stopped();
 		store.removePropertyChangeListener(psListener);
 		super.stop();
 	}
-	
+
+	@Override
+	public void handleMessage(Message message, LanguageServer languageServer, URI rootUri) {
+		if (message instanceof ResponseMessage response && response.getResult() instanceof InitializeResult) {
+			// LemMinX got the settings in its initialization options
+			SettingsPushes.received(languageServer, getXMLSettings());
+		}
+		idleStop.handleMessage(message, languageServer);
+	}
+
 	@Override
 	public String toString() {
 		return "XML Language Server: " + super.toString();
@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wildwebdeveloper.xml.internal.shared;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.lsp4e.LanguageServerWrapper;
+import org.eclipse.lsp4e.LanguageServers;
+import org.eclipse.lsp4j.DidCloseTextDocumentParams;
+import org.eclipse.lsp4j.DidOpenTextDocumentParams;
+import org.eclipse.lsp4j.jsonrpc.messages.Message;
+import org.eclipse.lsp4j.jsonrpc.messages.NotificationMessage;
+import org.eclipse.lsp4j.services.LanguageServer;
+
+/**
+ * Stops a language server through LSP4E once it had no open documents for the
+ * idle timeout, if any; LSP4E starts it again on its next document.
+ * <p>
+ * The timeout is set on the language servers preference page of
+ * <code>org.eclipse.wildwebdeveloper</code>, and shared by the servers of that
+ * bundle and LemMinX.
+ * </p>
+ */
+public final class IdleStop {
+
+	/**
+	 * Idle timeout in minutes, 0 to keep the servers running.
+	 */
+	public static final String IDLE_TIMEOUT_PREFERENCE = "languageServers.idleTimeout"; //$NON-NLS-1$
+	public static final int IDLE_TIMEOUT_DEFAULT = 0;
+
+	private static final String PREFERENCES_QUALIFIER = "org.eclipse.wildwebdeveloper"; //$NON-NLS-1$
+	private static final long STOP_TIMEOUT = 5;
+
+	private final String serverName;
+	private final Runnable stop;
+	private final Set<String> openDocuments = ConcurrentHashMap.newKeySet();
+	private volatile Job job;
+	private volatile LanguageServer languageServer;
+
+	/**
+	 * @param serverName
+	 *                       name of the server in the job and logs
+	 * @param stop
+	 *                       stops the connection provider of the server
+	 */
+	public IdleStop(String serverName, Runnable stop) {
+		this.serverName = serverName;
+		this.stop = stop;
+	}
+
+	/**
+	 * @return the idle timeout in minutes, 0 to keep the servers running
+	 */
+	public static int getIdleTimeout() {
+		return Math.max(0, Platform.getPreferencesService().getInt(PREFERENCES_QUALIFIER, IDLE_TIMEOUT_PREFERENCE,
+				IDLE_TIMEOUT_DEFAULT, null));
+	}
+
+	/**
+	 * Starts counting the idle time of a server just started.
+	 */
+	public void started() {
+		schedule();
+	}
+
+	/**
+	 * Tracks the documents of the server, to be called with each message the
+	 * connection provider handles.
+	 */
+	public void handleMessage(Message message, LanguageServer languageServer) {
+		this.languageServer = languageServer;
+		if (message instanceof NotificationMessage notification) {
+			if (notification.getParams() instanceof DidOpenTextDocumentParams params) {
+				openDocuments.add(params.getTextDocument().getUri());
+				cancel();
+			} else if (notification.getParams() instanceof DidCloseTextDocumentParams params
+					&& openDocuments.remove(params.getTextDocument().getUri()) && openDocuments.isEmpty()) {
+				schedule();
+			}
+		}
+	}
+
+	/**
+	 * Forgets the documents of a server that stopped.
+	 */
+	public void stopped() {
+		cancel();
+		openDocuments.clear();
+		languageServer = null;
+	}
+
+	public boolean hasOpenDocuments() {
+		return !openDocuments.isEmpty();
+	}
+
+	/**
+	 * Stops the server as LSP4E does, through its wrapper: shutdown and exit are
+	 * sent to the server before the connection provider is stopped, and the
+	 * wrapper starts the server again on its next document. Without a wrapper,
+	 * shutdown and exit are sent from here. Must not be called while LSP4E starts
+	 * a server, as the wrappers are looked up through their initialized servers.
+	 */
+	public void stopThroughWrapper() {
+		LanguageServer server = languageServer;
+		if (server == null) {
+			stop.run();
+			return;
+		}
+		try {
+			LanguageServerWrapper wrapper = LanguageServers.forProject(null).excludeInactive()
+					.collectAll((w, ls) -> CompletableFuture.completedFuture(ls == server ? w : null))
+					.get(STOP_TIMEOUT, TimeUnit.SECONDS).stream().filter(Objects::nonNull).findFirst().orElse(null);
+			if (wrapper != null) {
+				wrapper.stop();
+				return;
+			}
+			server.shutdown().get(STOP_TIMEOUT, TimeUnit.SECONDS);
+			server.exit();
+		} catch (ExecutionException | TimeoutException e) {
+			ILog.get().warn("Cannot shut down " + serverName + " cleanly: " + e.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		stop.run();
+	}
+
+	private synchronized void schedule() {
+		cancel();
+		int idleTimeout = getIdleTimeout();
+		if (idleTimeout > 0) {
+			job = Job.create("Stop idle " + serverName, monitor -> { //$NON-NLS-1$
+				if (openDocuments.isEmpty()) {
+					stopThroughWrapper();
+				}
+			});
+			job.setSystem(true);
+			job.schedule(idleTimeout * 60_000L);
+		}
+	}
+
+	private synchronized void cancel() {
+		Job current = job;
+		if (current != null) {
+			job = null;
+			current.cancel();
+		}
+	}
+}
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wildwebdeveloper.xml.internal.shared;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.lsp4j.DidChangeConfigurationParams;
+import org.eclipse.lsp4j.services.LanguageServer;
+
+import com.google.gson.Gson;
+
+/**
+ * Sends settings to language servers with
+ * <code>workspace/didChangeConfiguration</code>, unless they did not change
+ * since the last settings sent to the same server.
+ * <p>
+ * The hash of each top-level section of the settings, like <code>json</code>
+ * or <code>typescript</code>, is kept for each server: the settings are sent
+ * in full when any section changed, and skipped otherwise, since each
+ * notification makes the server validate all its documents again.
+ * </p>
+ */
+public final class SettingsPushes {
+
+	private static final Gson GSON = new Gson();
+
+	// forgotten with the proxy of the connection, once the server stopped
+	private static final Map<LanguageServer, Map<String, String>> sentHashes = new WeakHashMap<>();
+
+	private static final AtomicLong sentPushes = new AtomicLong();
+	private static final AtomicLong skippedPushes = new AtomicLong();
+
+	private SettingsPushes() {
+	}
+
+	/**
+	 * Sends the given settings to the given server if they changed.
+	 *
+	 * @return whether the settings were sent
+	 */
+	public static boolean push(LanguageServer server, Object settings) {
+		Map<String, String> hashes = hash(settings);
+		synchronized (sentHashes) {
+			if (hashes.equals(sentHashes.get(server))) {
+				skippedPushes.incrementAndGet();
+				return false;
+			}
+			sentHashes.put(server, hashes);
+			// in the lock, for servers to receive the settings in the order they are hashed
+			server.getWorkspaceService().didChangeConfiguration(new DidChangeConfigurationParams(settings));
+		}
+		sentPushes.incrementAndGet();
+		return true;
+	}
+
+	/**
+	 * Records settings the given server received without a push, like in its
+	 * initialization options.
+	 */
+	public static void received(LanguageServer server, Object settings) {
+		Map<String, String> hashes = hash(settings);
+		synchronized (sentHashes) {
+			sentHashes.put(server, hashes);
+		}
+	}
+
+	private static Map<String, String> hash(Object settings) {
+		Map<String, String> hashes = new HashMap<>();
+		if (settings instanceof Map<?, ?> sections) {
+			sections.forEach((section, value) -> hashes.put(String.valueOf(section), hash(GSON.toJson(value))));
+		} else {
+			hashes.put("", hash(GSON.toJson(settings))); //$NON-NLS-1$
+		}
+		return hashes;
+	}
+
+	private static String hash(String json) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			return HexFormat.of().formatHex(digest.digest(json.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			// required in every Java platform
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * @return the number of settings sent to the language servers
+	 */
+	public static long getSentPushes() {
+		return sentPushes.get();
+	}
+
+	/**
+	 * @return the number of settings not sent since unchanged
+	 */
+	public static long getSkippedPushes() {
+		return skippedPushes.get();
+	}
+}
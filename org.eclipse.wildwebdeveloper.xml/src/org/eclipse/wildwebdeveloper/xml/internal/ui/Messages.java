@@ -19,6 +19,7 @@ public class Messages extends NLS {
 	public static String XMLPreferencePage_XMLCatalogsLink;
 	public static String XMLPreferencePage_downloadExternalResources_enabled;
 	public static String XMLPreferencePage_completion_autoCloseTags;
+	public static String XMLPreferencePage_server_maxMemory;
 
 	// --------- XML Catalog preference page
 	public static String XMLCatalogPreferencePage_Entries;
@@ -19,4 +19,9 @@ package org.eclipse.wildwebdeveloper.xml.internal.ui.preferences;
 public class XMLPreferenceClientConstants {
 
 	public static final String XML_PREFERENCES_COMPLETION_AUTO_CLOSE_TAGS = "completion/autoCloseTags";
+
+	/**
+	 * Maximum heap size in megabytes of the LemMinX process, 0 for the JVM default.
+	 */
+	public static final String XML_PREFERENCES_SERVER_MAX_MEMORY = "server/maxMemory";
 }
@@ -13,10 +13,12 @@
 package org.eclipse.wildwebdeveloper.xml.internal.ui.preferences;
 
 import static org.eclipse.wildwebdeveloper.xml.internal.ui.preferences.XMLPreferenceClientConstants.XML_PREFERENCES_COMPLETION_AUTO_CLOSE_TAGS;
+import static org.eclipse.wildwebdeveloper.xml.internal.ui.preferences.XMLPreferenceClientConstants.XML_PREFERENCES_SERVER_MAX_MEMORY;
 import static org.eclipse.wildwebdeveloper.xml.internal.ui.preferences.XMLPreferenceServerConstants.XML_PREFERENCES_DOWNLOAD_EXTERNAL_RESOURCES;
 
 import org.eclipse.jface.preference.BooleanFieldEditor;
 import org.eclipse.jface.preference.FieldEditorPreferencePage;
+import org.eclipse.jface.preference.IntegerFieldEditor;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.SelectionAdapter;
 import org.eclipse.swt.events.SelectionEvent;
@@ -74,6 +76,10 @@ public class XMLPreferencePage extends FieldEditorPreferencePage implements IWor
 				Messages.XMLPreferencePage_downloadExternalResources_enabled, getFieldEditorParent()));
 		addField(new BooleanFieldEditor(XML_PREFERENCES_COMPLETION_AUTO_CLOSE_TAGS,
 				Messages.XMLPreferencePage_completion_autoCloseTags, getFieldEditorParent()));
+		IntegerFieldEditor maxMemory = new IntegerFieldEditor(XML_PREFERENCES_SERVER_MAX_MEMORY,
+				Messages.XMLPreferencePage_server_maxMemory, getFieldEditorParent());
+		maxMemory.setValidRange(0, Integer.MAX_VALUE);
+		addField(maxMemory);
 
 	}
 }
\ No newline at end of file
@@ -16,6 +16,7 @@ import org.eclipse.swt.widgets.Shell;
 import org.eclipse.ui.IWorkbenchWindow;
 import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.plugin.AbstractUIPlugin;
+import org.eclipse.wildwebdeveloper.server.WarmServerPool;
 import org.osgi.framework.BundleContext;
 
 /**
@@ -39,10 +40,12 @@ public class Activator extends AbstractUIPlugin {
 	public void start(BundleContext context) throws Exception {
 		super.start(context);
 		plugin = this;
+		SchemaAssociationRegistry.translateContributedSchemas();
 	}
 
 	@Override
 	public void stop(BundleContext context) throws Exception {
+		WarmServerPool.dispose();
 		plugin = null;
 		super.stop(context);
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 Red Hat Inc. and others.
+ * Copyright (c) 2021, 2026 Red Hat Inc. and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -10,19 +10,173 @@
 package org.eclipse.wildwebdeveloper;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.FileLocator;
+import org.eclipse.core.runtime.IConfigurationElement;
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.wildwebdeveloper.json.JSonLanguageServer;
+import org.osgi.framework.Bundle;
 
+/**
+ * Translates the URLs of the JSON schemas contributed by bundles to file URLs
+ * the language servers can read.
+ * <p>
+ * Translating a <code>platform:/plugin</code> URL extracts the schema of a
+ * jarred bundle, so translations are cached by bundle, bundle version and
+ * path, and kept in the state location of this bundle across sessions. The
+ * schemas contributed through the
+ * <code>org.eclipse.wildwebdeveloper.json.schema</code> extension point are
+ * translated by a job on startup, before any language server needs them.
+ * </p>
+ * <p>
+ * Remote schemas are translated to their copy in the {@link SchemaMirror}
+ * once downloaded.
+ * </p>
+ */
 public class SchemaAssociationRegistry {
-	
+
+	private static final String PLATFORM_PLUGIN = "platform:/plugin/"; //$NON-NLS-1$
+	private static final String CACHE_FILE = "schemaURLs.properties"; //$NON-NLS-1$
+
+	// file URLs by bundle, version and path, or by URL for other platform URLs
+	private static final Map<String, String> translations = new ConcurrentHashMap<>();
+	private static boolean loaded;
+
+	private static final Job saveJob = Job.create("Save schema URLs", monitor -> { //$NON-NLS-1$
+		save();
+	});
+	static {
+		saveJob.setSystem(true);
+	}
+
 	private SchemaAssociationRegistry() {}
-	
+
 	public static String translate(String url) {
+		if (url == null) {
+			return null;
+		}
+		if (url.startsWith("http:") || url.startsWith("https:")) { //$NON-NLS-1$ //$NON-NLS-2$
+			SchemaMirror mirror = SchemaMirror.getDefault();
+			return mirror != null ? mirror.toLocalURL(url) : url;
+		}
+		if (!url.startsWith("platform:")) { //$NON-NLS-1$
+			// already readable by the language servers
+			return url;
+		}
+		load();
+		String key = getCacheKey(url);
+		String translation = translations.get(key);
+		if (translation == null) {
+			try {
+				translation = FileLocator.toFileURL(new URL(url)).toString();
+			} catch (IOException e) {
+				return url;
+			}
+			translations.put(key, translation);
+			if (key.startsWith(PLATFORM_PLUGIN)) {
+				saveJob.schedule(1000);
+			}
+		}
+		return translation;
+	}
+
+	/**
+	 * Translates the schemas contributed through the extension point in a job.
+	 */
+	static void translateContributedSchemas() {
+		Job job = Job.create("Extract contributed JSON schemas", monitor -> { //$NON-NLS-1$
+			for (IConfigurationElement element : Platform.getExtensionRegistry()
+					.getConfigurationElementsFor(JSonLanguageServer.SCHEMA_EXT)) {
+				translate(element.getAttribute(JSonLanguageServer.URL_ATTR));
+			}
+		});
+		job.setSystem(true);
+		job.setPriority(Job.DECORATE);
+		job.schedule();
+	}
+
+	/*
+	 * platform:/plugin/<bundle>/<path> becomes
+	 * platform:/plugin/<bundle>_<version>/<path>
+	 */
+	private static String getCacheKey(String url) {
+		if (url.startsWith(PLATFORM_PLUGIN)) {
+			int separator = url.indexOf('/', PLATFORM_PLUGIN.length());
+			if (separator > 0) {
+				Bundle bundle = Platform.getBundle(url.substring(PLATFORM_PLUGIN.length(), separator));
+				if (bundle != null) {
+					return url.substring(0, separator) + '_' + bundle.getVersion() + url.substring(separator);
+				}
+			}
+		}
+		return url;
+	}
+
+	private static Path getCacheFile() {
+		Activator activator = Activator.getDefault();
+		return activator != null ? activator.getStateLocation().append(CACHE_FILE).toPath() : null;
+	}
+
+	private static synchronized void load() {
+		if (loaded) {
+			return;
+		}
+		loaded = true;
+		Path cacheFile = getCacheFile();
+		if (cacheFile == null || !Files.isRegularFile(cacheFile)) {
+			return;
+		}
+		Properties properties = new Properties();
+		try (InputStream input = Files.newInputStream(cacheFile)) {
+			properties.load(input);
+		} catch (IOException e) {
+			ILog.get().warn("Could not read " + cacheFile, e); //$NON-NLS-1$
+			return;
+		}
+		properties.forEach((key, value) -> {
+			// extracted files may have been deleted with the OSGi cache
+			if (exists(value.toString())) {
+				translations.putIfAbsent(key.toString(), value.toString());
+			}
+		});
+	}
+
+	private static boolean exists(String fileURL) {
 		try {
-			return FileLocator.toFileURL(new URL(url)).toString();
+			return Files.exists(Path.of(new URI(fileURL)));
+		} catch (URISyntaxException | IllegalArgumentException e) {
+			// toFileURL does not encode the URL
+			return fileURL.startsWith("file:") && Files.exists(Path.of(fileURL.substring("file:".length()))); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	private static void save() {
+		Path cacheFile = getCacheFile();
+		if (cacheFile == null) {
+			return;
+		}
+		Properties properties = new Properties();
+		translations.forEach((key, value) -> {
+			if (key.startsWith(PLATFORM_PLUGIN)) {
+				properties.setProperty(key, value);
+			}
+		});
+		try (OutputStream output = Files.newOutputStream(cacheFile)) {
+			properties.store(output, null);
 		} catch (IOException e) {
-			return url;
+			ILog.get().warn("Could not write " + cacheFile, e); //$NON-NLS-1$
 		}
 	}
 }
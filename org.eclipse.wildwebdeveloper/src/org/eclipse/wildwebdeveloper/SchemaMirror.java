@@ -0,0 +1,306 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wildwebdeveloper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpClient.Redirect;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.jobs.Job;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * Local copies of the remote JSON schemas, like the schemastore ones, for the
+ * language servers to read them from the disk instead of downloading them on
+ * each start.
+ * <p>
+ * A schema is downloaded in a job the first time it is asked for, and its
+ * remote URL is used until then; {@link #addListener(Runnable) listeners} are
+ * notified once the local copies of the schemas downloaded together exist.
+ * Copies older than the time to live are revalidated with a conditional
+ * request, and still used when the server cannot be reached. Schemas with
+ * relative references and no absolute <code>$id</code> keep their remote URL,
+ * since their references would be resolved against the local copy.
+ * </p>
+ */
+public final class SchemaMirror {
+
+	public static final Duration DEFAULT_TTL = Duration.ofDays(1);
+
+	private static final Duration TIMEOUT = Duration.ofSeconds(30);
+	private static final String ETAG = "etag"; //$NON-NLS-1$
+	private static final String LAST_MODIFIED = "lastModified"; //$NON-NLS-1$
+	private static final String CHECKED = "checked"; //$NON-NLS-1$
+	private static final String RELATIVE_REFS = "relativeRefs"; //$NON-NLS-1$
+	private static final long NOTIFICATION_DELAY = 1000;
+
+	private static SchemaMirror instance;
+
+	private final Path directory;
+	private final Duration ttl;
+	private final HttpClient client = HttpClient.newBuilder().followRedirects(Redirect.NORMAL)
+			.connectTimeout(TIMEOUT).build();
+	private final Set<String> fetching = ConcurrentHashMap.newKeySet();
+	private final Set<Runnable> listeners = new CopyOnWriteArraySet<>();
+	private final Job notificationJob = Job.create("Notify mirrored JSON schemas", monitor -> { //$NON-NLS-1$
+		listeners.forEach(Runnable::run);
+	});
+
+	private final AtomicLong downloads = new AtomicLong();
+	private final AtomicLong revalidations = new AtomicLong();
+
+	/**
+	 * @param directory
+	 *                      where the copies are stored
+	 * @param ttl
+	 *                      how long a copy is used before being revalidated
+	 */
+	public SchemaMirror(Path directory, Duration ttl) {
+		this.directory = directory;
+		this.ttl = ttl;
+		notificationJob.setSystem(true);
+	}
+
+	/**
+	 * @return the mirror in the state location of this bundle, or
+	 *         <code>null</code> if the bundle is not started
+	 */
+	public static synchronized SchemaMirror getDefault() {
+		if (instance == null) {
+			Activator activator = Activator.getDefault();
+			if (activator == null) {
+				return null;
+			}
+			instance = new SchemaMirror(activator.getStateLocation().append("schemas").toPath(), DEFAULT_TTL); //$NON-NLS-1$
+		}
+		return instance;
+	}
+
+	/**
+	 * @return the <code>file:</code> URL of the local copy of the given schema,
+	 *         or the given URL while there is none
+	 */
+	public String toLocalURL(String url) {
+		Path file = getFile(url);
+		if (!Files.isRegularFile(file)) {
+			fetchLater(url);
+			return url;
+		}
+		Properties metadata = readMetadata(url);
+		String checked = metadata.getProperty(CHECKED);
+		if (checked == null || Long.parseLong(checked) + ttl.toMillis() <= System.currentTimeMillis()) {
+			fetchLater(url);
+		}
+		// relative references would be resolved against the local copy
+		return Boolean.parseBoolean(metadata.getProperty(RELATIVE_REFS)) ? url : file.toUri().toString();
+	}
+
+	private void fetchLater(String url) {
+		if (!fetching.add(url)) {
+			return;
+		}
+		Job job = Job.create("Download " + url, monitor -> { //$NON-NLS-1$
+			try {
+				boolean existed = Files.isRegularFile(getFile(url));
+				fetch(url);
+				if (!existed && Files.isRegularFile(getFile(url))) {
+					// the schemas downloaded together are notified once
+					if (notificationJob.getState() == Job.SLEEPING) {
+						notificationJob.cancel();
+					}
+					notificationJob.schedule(NOTIFICATION_DELAY);
+				}
+			} finally {
+				fetching.remove(url);
+			}
+		});
+		job.setSystem(true);
+		job.schedule();
+	}
+
+	/**
+	 * Downloads the given schema, or revalidates its local copy.
+	 *
+	 * @return whether the local copy is up to date, <code>false</code> if the
+	 *         server could not be reached
+	 */
+	public boolean fetch(String url) {
+		Path file = getFile(url);
+		Properties metadata = readMetadata(url);
+		HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url)).timeout(TIMEOUT).GET();
+		if (Files.isRegularFile(file)) {
+			String etag = metadata.getProperty(ETAG);
+			if (etag != null) {
+				request.header("If-None-Match", etag); //$NON-NLS-1$
+			}
+			String lastModified = metadata.getProperty(LAST_MODIFIED);
+			if (lastModified != null) {
+				request.header("If-Modified-Since", lastModified); //$NON-NLS-1$
+			}
+		}
+		HttpResponse<byte[]> response;
+		try {
+			response = client.send(request.build(), BodyHandlers.ofByteArray());
+		} catch (IOException e) {
+			// offline, the local copy is still used
+			return false;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+		try {
+			if (response.statusCode() == 304) {
+				revalidations.incrementAndGet();
+			} else if (response.statusCode() == 200) {
+				Files.createDirectories(directory);
+				Path download = Files.createTempFile(directory, null, null);
+				Files.write(download, response.body());
+				Files.move(download, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				metadata.clear();
+				response.headers().firstValue("ETag").ifPresent(etag -> metadata.setProperty(ETAG, etag)); //$NON-NLS-1$
+				response.headers().firstValue("Last-Modified") //$NON-NLS-1$
+						.ifPresent(lastModified -> metadata.setProperty(LAST_MODIFIED, lastModified));
+				metadata.setProperty(RELATIVE_REFS, Boolean.toString(hasRelativeRefs(response.body())));
+				downloads.incrementAndGet();
+			} else {
+				return false;
+			}
+			metadata.setProperty(CHECKED, Long.toString(System.currentTimeMillis()));
+			try (OutputStream output = Files.newOutputStream(getMetadataFile(url))) {
+				metadata.store(output, url);
+			}
+			return true;
+		} catch (IOException e) {
+			ILog.get().warn("Could not store the schema " + url, e); //$NON-NLS-1$
+			return false;
+		}
+	}
+
+	/*
+	 * Whether the schema refers to other schemas by relative URLs, resolved
+	 * against its URL unless it has an absolute $id.
+	 */
+	private static boolean hasRelativeRefs(byte[] schema) {
+		try {
+			JsonElement root = JsonParser.parseString(new String(schema, StandardCharsets.UTF_8));
+			if (root.isJsonObject() && root.getAsJsonObject().get("$id") instanceof JsonPrimitive id //$NON-NLS-1$
+					&& id.isString() && URI.create(id.getAsString()).isAbsolute()) {
+				return false;
+			}
+			return hasRelativeRefs(root);
+		} catch (JsonParseException | IllegalArgumentException e) {
+			// not a JSON schema to resolve references in
+			return false;
+		}
+	}
+
+	private static boolean hasRelativeRefs(JsonElement element) {
+		if (element.isJsonArray()) {
+			for (JsonElement child : element.getAsJsonArray()) {
+				if (hasRelativeRefs(child)) {
+					return true;
+				}
+			}
+		} else if (element.isJsonObject()) {
+			for (Map.Entry<String, JsonElement> member : element.getAsJsonObject().entrySet()) {
+				if ("$ref".equals(member.getKey()) && member.getValue() instanceof JsonPrimitive ref && ref.isString()) { //$NON-NLS-1$
+					String target = ref.getAsString();
+					if (!target.startsWith("#") && !URI.create(target).isAbsolute()) { //$NON-NLS-1$
+						return true;
+					}
+				} else if (hasRelativeRefs(member.getValue())) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private Properties readMetadata(String url) {
+		Properties metadata = new Properties();
+		Path metadataFile = getMetadataFile(url);
+		if (Files.isRegularFile(metadataFile)) {
+			try (InputStream input = Files.newInputStream(metadataFile)) {
+				metadata.load(input);
+			} catch (IOException e) {
+				// downloaded again
+			}
+		}
+		return metadata;
+	}
+
+	private Path getFile(String url) {
+		return directory.resolve(hash(url) + ".json"); //$NON-NLS-1$
+	}
+
+	private Path getMetadataFile(String url) {
+		return directory.resolve(hash(url) + ".properties"); //$NON-NLS-1$
+	}
+
+	private static String hash(String url) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			return HexFormat.of().formatHex(digest.digest(url.getBytes(StandardCharsets.UTF_8)), 0, 16);
+		} catch (NoSuchAlgorithmException e) {
+			// required in every Java platform
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Adds a listener notified, in any thread, when a local copy is created.
+	 */
+	public void addListener(Runnable listener) {
+		listeners.add(listener);
+	}
+
+	public void removeListener(Runnable listener) {
+		listeners.remove(listener);
+	}
+
+	/**
+	 * @return the number of schemas downloaded
+	 */
+	public long getDownloads() {
+		return downloads.get();
+	}
+
+	/**
+	 * @return the number of local copies found up to date by the server
+	 */
+	public long getRevalidations() {
+		return revalidations.get();
+	}
+}
@@ -19,11 +19,11 @@ import org.eclipse.core.runtime.FileLocator;
 import org.eclipse.core.runtime.ILog;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.preferences.InstanceScope;
-import org.eclipse.lsp4e.server.ProcessStreamConnectionProvider;
 import org.eclipse.ui.preferences.ScopedPreferenceStore;
 import org.eclipse.wildwebdeveloper.embedder.node.NodeJSManager;
+import org.eclipse.wildwebdeveloper.server.ManagedProcessStreamConnectionProvider;
 
-public class AngularLanguageServer extends ProcessStreamConnectionProvider {
+public class AngularLanguageServer extends ManagedProcessStreamConnectionProvider {
 
 	private static final String LOG_TO_FILE_ANGULAR_LS_PREFERENCE = "org.eclipse.wildwebdeveloper.angular.file.logging.enabled";
 	private static final String LOG_TO_CONSOLE_ANGULAR_LS_PREFERENCE = "org.eclipse.wildwebdeveloper.angular.stderr.logging.enabled";
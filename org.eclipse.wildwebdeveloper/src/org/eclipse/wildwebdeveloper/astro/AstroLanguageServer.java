@@ -25,8 +25,8 @@ import java.util.Map;
 
 import org.eclipse.core.runtime.FileLocator;
 import org.eclipse.core.runtime.ILog;
-import org.eclipse.lsp4e.server.ProcessStreamConnectionProvider;
 import org.eclipse.wildwebdeveloper.embedder.node.NodeJSManager;
+import org.eclipse.wildwebdeveloper.server.ManagedProcessStreamConnectionProvider;
 
 /**
  * Launches the embedded Node.js based Astro language server.
@@ -35,7 +35,7 @@ import org.eclipse.wildwebdeveloper.embedder.node.NodeJSManager;
  *
  * @author Sebastian Thomschke
  */
-public final class AstroLanguageServer extends ProcessStreamConnectionProvider {
+public final class AstroLanguageServer extends ManagedProcessStreamConnectionProvider {
 
    private static volatile String astroLanguageServerPath;
    private static volatile String typescriptSdkPath;
@@ -66,9 +66,15 @@ public final class AstroLanguageServer extends ProcessStreamConnectionProvider {
       }
    }
 
+   @Override
+   protected boolean canShareInstance() {
+      return true;
+   }
+
    @Override
    public Map<String, Object> getInitializationOptions(final URI projectRootUri) {
       final Map<String, Object> options = new HashMap<>();
+      // for the next start of this launcher; a shared instance keeps the directory of its first project
       setWorkingDirectory(projectRootUri.getRawPath());
 
       // see https://github.com/withastro/language-tools/blob/main/packages/vscode/src/client.ts
@@ -26,7 +26,6 @@ import org.eclipse.lsp4j.ConfigurationParams;
 import org.eclipse.wildwebdeveloper.css.ui.preferences.CSSPreferenceServerConstants;
 import org.eclipse.wildwebdeveloper.css.ui.preferences.less.LESSPreferenceServerConstants;
 import org.eclipse.wildwebdeveloper.css.ui.preferences.scss.SCSSPreferenceServerConstants;
-import org.eclipse.wildwebdeveloper.ui.preferences.Settings;
 
 /**
  * CSS language client implementation.
@@ -46,16 +45,13 @@ public class CSSLanguageClient extends DefaultLanguageClient {
 				String section = item.getSection();
 				if (isMatchCssSection(section)) {
 					// 'css' section, returns the css settings
-					Settings cssSettings = CSSPreferenceServerConstants.getGlobalSettings();
-					settings.add(cssSettings.findSettings(section.split("[.]")));
+					settings.add(CSSPreferenceServerConstants.findSettings(section));
 				} else if (isMatchLessSection(section)) {
 					// 'less' section, returns the less settings
-					Settings cssSettings = LESSPreferenceServerConstants.getGlobalSettings();
-					settings.add(cssSettings.findSettings(section.split("[.]")));
+					settings.add(LESSPreferenceServerConstants.findSettings(section));
 				} else if (isMatchScssSection(section)) {
 					// 'scss' section, returns the scss settings
-					Settings cssSettings = SCSSPreferenceServerConstants.getGlobalSettings();
-					settings.add(cssSettings.findSettings(section.split("[.]")));
+					settings.add(SCSSPreferenceServerConstants.findSettings(section));
 				} else {
 					// Unkwown section
 					settings.add(null);
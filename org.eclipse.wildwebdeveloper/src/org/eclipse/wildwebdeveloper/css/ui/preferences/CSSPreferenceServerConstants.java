@@ -17,6 +17,7 @@ import static org.eclipse.wildwebdeveloper.ui.preferences.Settings.isMatchSectio
 import org.eclipse.jface.preference.IPreferenceStore;
 import org.eclipse.wildwebdeveloper.Activator;
 import org.eclipse.wildwebdeveloper.ui.preferences.Settings;
+import org.eclipse.wildwebdeveloper.ui.preferences.SettingsSnapshot;
 
 /**
  * CSS preference server constants.
@@ -25,6 +26,7 @@ import org.eclipse.wildwebdeveloper.ui.preferences.Settings;
 public class CSSPreferenceServerConstants {
 
 	private static final String CSS_SECTION = "css";
+	private static final SettingsSnapshot SETTINGS = new SettingsSnapshot(CSSPreferenceServerConstants::getGlobalSettings);
 
 	// public static final String CSS_PREFERENCES_CUSTOMDATA = "css.customData";
 
@@ -164,6 +166,14 @@ public class CSSPreferenceServerConstants {
 
 	}
 
+	/**
+	 * @return the immutable css settings of the given section, shared by all
+	 *         configuration requests until the preferences change
+	 */
+	public static Object findSettings(String section) {
+		return SETTINGS.findSettings(section);
+	}
+
 	/**
 	 * Returns true if the given section matches CSS settings and false otherwise.
 	 * 
@@ -17,6 +17,7 @@ import static org.eclipse.wildwebdeveloper.ui.preferences.Settings.isMatchSectio
 import org.eclipse.jface.preference.IPreferenceStore;
 import org.eclipse.wildwebdeveloper.Activator;
 import org.eclipse.wildwebdeveloper.ui.preferences.Settings;
+import org.eclipse.wildwebdeveloper.ui.preferences.SettingsSnapshot;
 
 /**
  * LESS preference server constants.
@@ -25,6 +26,7 @@ import org.eclipse.wildwebdeveloper.ui.preferences.Settings;
 public class LESSPreferenceServerConstants {
 
 	private static final String LESS_SECTION = "less";
+	private static final SettingsSnapshot SETTINGS = new SettingsSnapshot(LESSPreferenceServerConstants::getGlobalSettings);
 
 	// public static final String LESS_PREFERENCES_CUSTOMDATA = "less.customData";
 
@@ -164,6 +166,14 @@ public class LESSPreferenceServerConstants {
 
 	}
 
+	/**
+	 * @return the immutable less settings of the given section, shared by all
+	 *         configuration requests until the preferences change
+	 */
+	public static Object findSettings(String section) {
+		return SETTINGS.findSettings(section);
+	}
+
 	/**
 	 * Returns true if the given section matches LESS settings and false otherwise.
 	 * 
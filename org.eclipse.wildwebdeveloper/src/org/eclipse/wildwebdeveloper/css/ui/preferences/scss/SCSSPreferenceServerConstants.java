@@ -17,6 +17,7 @@ import static org.eclipse.wildwebdeveloper.ui.preferences.Settings.isMatchSectio
 import org.eclipse.jface.preference.IPreferenceStore;
 import org.eclipse.wildwebdeveloper.Activator;
 import org.eclipse.wildwebdeveloper.ui.preferences.Settings;
+import org.eclipse.wildwebdeveloper.ui.preferences.SettingsSnapshot;
 
 /**
  * SCSS preference server constants.
@@ -25,6 +26,7 @@ import org.eclipse.wildwebdeveloper.ui.preferences.Settings;
 public class SCSSPreferenceServerConstants {
 
 	private static final String SCSS_SECTION = "scss";
+	private static final SettingsSnapshot SETTINGS = new SettingsSnapshot(SCSSPreferenceServerConstants::getGlobalSettings);
 
 	// public static final String SCSS_PREFERENCES_CUSTOMDATA = "scss.customData";
 
@@ -164,6 +166,14 @@ public class SCSSPreferenceServerConstants {
 
 	}
 
+	/**
+	 * @return the immutable scss settings of the given section, shared by all
+	 *         configuration requests until the preferences change
+	 */
+	public static Object findSettings(String section) {
+		return SETTINGS.findSettings(section);
+	}
+
 	/**
 	 * Returns true if the given section matches SCSS settings and false otherwise.
 	 * 
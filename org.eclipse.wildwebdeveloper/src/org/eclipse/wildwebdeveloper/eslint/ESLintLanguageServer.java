@@ -16,10 +16,10 @@ import java.util.List;
 
 import org.eclipse.core.runtime.FileLocator;
 import org.eclipse.core.runtime.ILog;
-import org.eclipse.lsp4e.server.ProcessStreamConnectionProvider;
 import org.eclipse.wildwebdeveloper.embedder.node.NodeJSManager;
+import org.eclipse.wildwebdeveloper.server.ManagedProcessStreamConnectionProvider;
 
-public class ESLintLanguageServer extends ProcessStreamConnectionProvider {
+public class ESLintLanguageServer extends ManagedProcessStreamConnectionProvider {
 
 	public ESLintLanguageServer() {
 		List<String> commands = new ArrayList<>();
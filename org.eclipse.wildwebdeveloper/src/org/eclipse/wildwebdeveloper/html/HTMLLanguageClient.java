@@ -24,7 +24,6 @@ import org.eclipse.lsp4j.ConfigurationItem;
 import org.eclipse.lsp4j.ConfigurationParams;
 import org.eclipse.wildwebdeveloper.css.ui.preferences.CSSPreferenceServerConstants;
 import org.eclipse.wildwebdeveloper.html.ui.preferences.HTMLPreferenceServerConstants;
-import org.eclipse.wildwebdeveloper.ui.preferences.Settings;
 
 /**
  * HTML language client implementation.
@@ -44,12 +43,10 @@ public class HTMLLanguageClient extends DefaultLanguageClient {
 				String section = item.getSection();
 				if (isMatchHtmlSection(section)) {
 					// 'html' section, returns the html settings
-					Settings htmlSettings = HTMLPreferenceServerConstants.getGlobalSettings();
-					settings.add(htmlSettings.findSettings(section.split("[.]")));
+					settings.add(HTMLPreferenceServerConstants.findSettings(section));
 				} else if (isMatchCssSection(section)) {
 					// 'css' section, returns the css settings
-					Settings cssSettings = CSSPreferenceServerConstants.getGlobalSettings();
-					settings.add(cssSettings.findSettings(section.split("[.]")));
+					settings.add(CSSPreferenceServerConstants.findSettings(section));
 				} else {
 					// TODO match javascript section once those preferences will be
 					// implemented.
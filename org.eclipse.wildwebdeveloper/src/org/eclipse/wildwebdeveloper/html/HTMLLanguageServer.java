@@ -39,20 +39,37 @@ public class HTMLLanguageServer extends ProcessStreamConnectionProviderWithPrefe
 
 	public HTMLLanguageServer() {
 		super(HTML_LANGUAGE_SERVER_ID, Activator.getDefault().getPreferenceStore(), SUPPORTED_SECTIONS);
+		List<String> commands = createCommands();
+		if (commands != null) {
+			setCommands(commands);
+			setWorkingDirectory(System.getProperty("user.dir"));
+		}
+	}
+
+	/**
+	 * @return the command line starting the server, or null if the server
+	 *         cannot be found
+	 */
+	public static List<String> createCommands() {
 		List<String> commands = new ArrayList<>();
 		commands.add(NodeJSManager.getNodeJsLocation().getAbsolutePath());
 		try {
-			URL url = FileLocator.toFileURL(
-					getClass().getResource("/node_modules/vscode-html-languageserver/dist/node/htmlServerMain.js"));
+			URL url = FileLocator.toFileURL(HTMLLanguageServer.class
+					.getResource("/node_modules/vscode-html-languageserver/dist/node/htmlServerMain.js"));
 			commands.add(new java.io.File(url.getPath()).getAbsolutePath());
 			commands.add("--stdio");
-			setCommands(commands);
-			setWorkingDirectory(System.getProperty("user.dir"));
+			return commands;
 		} catch (IOException e) {
 			ILog.get().error(e.getMessage(), e);
+			return null;
 		}
 	}
 
+	@Override
+	protected boolean canRunInNodeHost() {
+		return true;
+	}
+
 	@Override
 	public Object getInitializationOptions(URI rootUri) {
 		Map<String, Object> map = new HashMap<>();
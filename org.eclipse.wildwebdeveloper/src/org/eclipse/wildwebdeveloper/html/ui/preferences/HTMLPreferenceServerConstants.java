@@ -19,6 +19,7 @@ import static org.eclipse.wildwebdeveloper.ui.preferences.Settings.isMatchSectio
 import org.eclipse.jface.preference.IPreferenceStore;
 import org.eclipse.wildwebdeveloper.Activator;
 import org.eclipse.wildwebdeveloper.ui.preferences.Settings;
+import org.eclipse.wildwebdeveloper.ui.preferences.SettingsSnapshot;
 
 /**
  * HTML preference server constants.
@@ -27,6 +28,7 @@ import org.eclipse.wildwebdeveloper.ui.preferences.Settings;
 public class HTMLPreferenceServerConstants {
 
 	private static final String HTML_SECTION = "html";
+	private static final SettingsSnapshot SETTINGS = new SettingsSnapshot(HTMLPreferenceServerConstants::getGlobalSettings);
 
 	// Completion settings
 	public static final String HTML_PREFERENCES_SUGGEST_HTML5 = "html.suggest.html5";
@@ -124,6 +126,14 @@ public class HTMLPreferenceServerConstants {
 		store.setDefault(HTML_PREFERENCES_VALIDATE_STYLES, true);
 	}
 
+	/**
+	 * @return the immutable html settings of the given section, shared by all
+	 *         configuration requests until the preferences change
+	 */
+	public static Object findSettings(String section) {
+		return SETTINGS.findSettings(section);
+	}
+
 	/**
 	 * Returns true if the given section matches HTML settings and false otherwise.
 	 * 
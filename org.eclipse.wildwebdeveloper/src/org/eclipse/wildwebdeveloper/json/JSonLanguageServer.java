@@ -18,39 +18,24 @@ import java.io.IOException;
 import java.net.URI;
 import java.net.URL;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
+import java.util.WeakHashMap;
 
 import org.eclipse.core.runtime.FileLocator;
-import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.core.runtime.ILog;
-import org.eclipse.core.runtime.Platform;
-import org.eclipse.core.runtime.content.IContentType;
-import org.eclipse.core.runtime.content.IContentTypeManager;
 import org.eclipse.jface.preference.IPreferenceStore;
-import org.eclipse.jface.util.IPropertyChangeListener;
-import org.eclipse.jface.util.PropertyChangeEvent;
-import org.eclipse.lsp4e.LanguageServers;
-import org.eclipse.lsp4e.LanguageServersRegistry;
-import org.eclipse.lsp4e.LanguageServersRegistry.LanguageServerDefinition;
-import org.eclipse.lsp4j.DidChangeConfigurationParams;
 import org.eclipse.lsp4j.InitializeResult;
 import org.eclipse.lsp4j.jsonrpc.messages.Message;
 import org.eclipse.lsp4j.jsonrpc.messages.ResponseMessage;
 import org.eclipse.lsp4j.services.LanguageServer;
 import org.eclipse.wildwebdeveloper.Activator;
-import org.eclipse.wildwebdeveloper.SchemaAssociationRegistry;
-import org.eclipse.wildwebdeveloper.SchemaAssociationsPreferenceInitializer;
 import org.eclipse.wildwebdeveloper.embedder.node.NodeJSManager;
 import org.eclipse.wildwebdeveloper.json.ui.preferences.JSonPreferenceServerConstants;
+import org.eclipse.wildwebdeveloper.server.RunningLanguageServers;
 import org.eclipse.wildwebdeveloper.ui.preferences.ProcessStreamConnectionProviderWithPreference;
-
-import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
+import org.eclipse.wildwebdeveloper.xml.internal.shared.SettingsPushes;
 
 @SuppressWarnings("restriction")
 public class JSonLanguageServer extends ProcessStreamConnectionProviderWithPreference {
@@ -64,48 +49,58 @@ public class JSonLanguageServer extends ProcessStreamConnectionProviderWithPrefe
 	private static final String[] SUPPORTED_SECTIONS = { "json" }; //$NON-NLS-1$
 
 	private static final IPreferenceStore PREFERENCE_STORE = Activator.getDefault().getPreferenceStore();
-	private static final LanguageServerDefinition JSON_LS_DEFINITION = LanguageServersRegistry.getInstance()
-			.getDefinition(JSON_LANGUAGE_SERVER_ID);
-	private static final IPropertyChangeListener PROPERTY_CHANGE_LISTENER = new IPropertyChangeListener() {
-		@Override
-		public void propertyChange(PropertyChangeEvent event) {
-			if (SchemaAssociationsPreferenceInitializer.SCHEMA_ASSOCIATIONS_PREFERENCE.equals(event.getProperty())) {
-				Map<String, List<String>> associations = getSchemaAssociations();
-
-				LanguageServers.forProject(null).withPreferredServer(JSON_LS_DEFINITION).excludeInactive()
-						.collectAll((w, ls) -> CompletableFuture.completedFuture(ls)).thenAccept(
-								lss -> lss.stream().forEach(ls -> ((JSonLanguageServerInterface) ls).sendJSonchemaAssociations(associations)));
-			}
+	// schema associations last sent to each server, forgotten with its proxy
+	private static final Map<LanguageServer, Map<String, List<String>>> sentSchemaAssociations = new WeakHashMap<>();
+	private static final Runnable SCHEMA_ASSOCIATIONS_LISTENER = () -> {
+		for (LanguageServer ls : RunningLanguageServers.get(JSonLanguageServer.class)) {
+			sendSchemaAssociations(ls);
 		}
 	};
 
 	public JSonLanguageServer() {
 		super(JSON_LANGUAGE_SERVER_ID, PREFERENCE_STORE, SUPPORTED_SECTIONS);
+		List<String> commands = createCommands();
+		if (commands != null) {
+			setCommands(commands);
+			setWorkingDirectory(System.getProperty("user.dir"));
+		}
+	}
+
+	/**
+	 * @return the command line starting the server, or null if the server
+	 *         cannot be found
+	 */
+	public static List<String> createCommands() {
 		List<String> commands = new ArrayList<>();
 		commands.add(NodeJSManager.getNodeJsLocation().getAbsolutePath());
 		try {
-			URL url = FileLocator.toFileURL(
-				getClass().getResource("/node_modules/vscode-json-languageserver/dist/node/jsonServerMain.js"));
+			URL url = FileLocator.toFileURL(JSonLanguageServer.class
+					.getResource("/node_modules/vscode-json-languageserver/dist/node/jsonServerMain.js"));
 			commands.add(new java.io.File(url.getPath()).getAbsolutePath());
 			commands.add("--stdio");
-			setCommands(commands);
-			setWorkingDirectory(System.getProperty("user.dir"));
+			return commands;
 		} catch (IOException e) {
 			ILog.get().error(e.getMessage(), e);
+			return null;
 		}
 	}
 
+	@Override
+	protected boolean canRunInNodeHost() {
+		return true;
+	}
+
 	@Override
 	public void handleMessage(Message message, LanguageServer languageServer, URI rootUri) {
 		if (message instanceof ResponseMessage responseMessage) {
 			if (responseMessage.getResult() instanceof InitializeResult) {
 				// Send json/schemaAssociations notification to register JSON Schema on JSON
 				// Language server side.
-				JSonLanguageServerInterface server = (JSonLanguageServerInterface) languageServer;
-				server.sendJSonchemaAssociations(getSchemaAssociations());
-				server.getWorkspaceService().didChangeConfiguration(new DidChangeConfigurationParams(createSettings()));
+				sendSchemaAssociations(languageServer);
+				SettingsPushes.push(languageServer, createSettings());
 			}
 		}
+		super.handleMessage(message, languageServer, rootUri);
 	}
 	
 	@Override
@@ -113,54 +108,15 @@ public class JSonLanguageServer extends ProcessStreamConnectionProviderWithPrefe
 		return JSonPreferenceServerConstants.getGlobalSettings();
 	}
 
-	private static Map<String, List<String>> getSchemaAssociations() {
-		Map<String, List<String>> associations = new HashMap<>();
-		fillSchemaAssociationsFromPreferenceStore(associations);
-		fillSchemaAssociationsFromExtensionPoint(associations);
-		return associations;
-	}
-
-	private static void fillSchemaAssociationsFromPreferenceStore(Map<String, List<String>> associations) {
-		IPreferenceStore preferenceStore = Activator.getDefault().getPreferenceStore();
-		String schemaString = preferenceStore
-				.getString(SchemaAssociationsPreferenceInitializer.SCHEMA_ASSOCIATIONS_PREFERENCE);
-
-		Map<String, String> contentTypeAssociations = new Gson().fromJson(schemaString,
-				new TypeToken<HashMap<String, String>>() {
-				}.getType());
-
-		IContentTypeManager contentTypeManager = Platform.getContentTypeManager();
-		IContentType jsonBaseContentType = contentTypeManager.getContentType("org.eclipse.wildwebdeveloper.json");
-
-		contentTypeAssociations.forEach((key, value) -> {
-			IContentType contentType = contentTypeManager.getContentType(key);
-			if (contentType != null && contentType.getBaseType().equals(jsonBaseContentType)) {
-				String[] fileNames = contentType.getFileSpecs(IContentType.FILE_NAME_SPEC);
-				for (String fileName : fileNames) {
-					associations.put(fileName, Arrays.asList(value));
-				}
-
-				String[] filePatterns = contentType.getFileSpecs(IContentType.FILE_PATTERN_SPEC);
-				for (String pattern : filePatterns) {
-					associations.put(pattern, Arrays.asList(value));
-				}
-
-				String[] fileExtensions = contentType.getFileSpecs(IContentType.FILE_EXTENSION_SPEC);
-				for (String extension : fileExtensions) {
-					associations.put("*." + extension, Arrays.asList(value));
-				}
-			}
-		});
-	}
-	
-	private static void fillSchemaAssociationsFromExtensionPoint(Map<String, List<String>> associations) {
-		IConfigurationElement[] conf = Platform.getExtensionRegistry().getConfigurationElementsFor(SCHEMA_EXT);
-		for (IConfigurationElement el : conf) {
-			String pattern = el.getAttribute(PATTERN_ATTR);
-			if (!associations.containsKey(pattern)) {
-				associations.put(pattern, new ArrayList<>());
+	private static void sendSchemaAssociations(LanguageServer languageServer) {
+		Map<String, List<String>> associations = SchemaAssociationIndex.get();
+		synchronized (sentSchemaAssociations) {
+			// the server drops and compiles again all its schemas on each notification
+			if (associations.equals(sentSchemaAssociations.get(languageServer))) {
+				return;
 			}
-			associations.get(pattern).add(SchemaAssociationRegistry.translate(el.getAttribute(URL_ATTR)));
+			sentSchemaAssociations.put(languageServer, associations);
+			((JSonLanguageServerInterface) languageServer).sendJSonchemaAssociations(associations);
 		}
 	}
 
@@ -172,12 +128,12 @@ public class JSonLanguageServer extends ProcessStreamConnectionProviderWithPrefe
 	@Override
 	public void start() throws IOException {
 		super.start();
-		PREFERENCE_STORE.addPropertyChangeListener(PROPERTY_CHANGE_LISTENER);
+		SchemaAssociationIndex.addListener(SCHEMA_ASSOCIATIONS_LISTENER);
 	}
 
 	@Override
 	public void stop() {
-		PREFERENCE_STORE.removePropertyChangeListener(PROPERTY_CHANGE_LISTENER);
+		SchemaAssociationIndex.removeListener(SCHEMA_ASSOCIATIONS_LISTENER);
 		super.stop();
 	}
 }
@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wildwebdeveloper.json;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import org.eclipse.core.runtime.IConfigurationElement;
+import org.eclipse.core.runtime.IExtension;
+import org.eclipse.core.runtime.IExtensionPoint;
+import org.eclipse.core.runtime.IRegistryEventListener;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.content.IContentType;
+import org.eclipse.core.runtime.content.IContentTypeManager;
+import org.eclipse.core.runtime.content.IContentTypeManager.IContentTypeChangeListener;
+import org.eclipse.jface.preference.IPreferenceStore;
+import org.eclipse.jface.util.IPropertyChangeListener;
+import org.eclipse.wildwebdeveloper.Activator;
+import org.eclipse.wildwebdeveloper.SchemaAssociationRegistry;
+import org.eclipse.wildwebdeveloper.SchemaAssociationsPreferenceInitializer;
+import org.eclipse.wildwebdeveloper.SchemaMirror;
+import org.eclipse.wildwebdeveloper.ui.preferences.SettingsSnapshot;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+
+/**
+ * The JSON schemas associated with file patterns, from the schema associations
+ * preference, the content types it refers to and the
+ * <code>org.eclipse.wildwebdeveloper.json.schema</code> extension point.
+ * <p>
+ * The associations are computed once, then kept until the preference, the
+ * content types or the extensions change, or a remote schema is mirrored;
+ * listeners are then notified.
+ * </p>
+ */
+final class SchemaAssociationIndex {
+
+	private static final Object lock = new Object();
+	private static final Set<Runnable> listeners = new CopyOnWriteArraySet<>();
+
+	private static Map<String, List<String>> associations;
+	private static boolean listening;
+
+	private static final IPropertyChangeListener preferenceListener = event -> {
+		if (SchemaAssociationsPreferenceInitializer.SCHEMA_ASSOCIATIONS_PREFERENCE.equals(event.getProperty())) {
+			invalidate();
+		}
+	};
+
+	private static final IContentTypeChangeListener contentTypeListener = event -> invalidate();
+
+	private static final IRegistryEventListener extensionListener = new IRegistryEventListener() {
+		@Override
+		public void added(IExtension[] extensions) {
+			invalidate();
+		}
+
+		@Override
+		public void removed(IExtension[] extensions) {
+			invalidate();
+		}
+
+		@Override
+		public void added(IExtensionPoint[] extensionPoints) {
+			// only extensions matter
+		}
+
+		@Override
+		public void removed(IExtensionPoint[] extensionPoints) {
+			// only extensions matter
+		}
+	};
+
+	private SchemaAssociationIndex() {
+	}
+
+	/**
+	 * @return the unmodifiable schema URLs by file pattern
+	 */
+	static Map<String, List<String>> get() {
+		synchronized (lock) {
+			if (associations == null) {
+				listen();
+				Map<String, List<String>> result = new HashMap<>();
+				fillSchemaAssociationsFromPreferenceStore(result);
+				fillSchemaAssociationsFromExtensionPoint(result);
+				result.replaceAll((pattern, schemas) -> Collections.unmodifiableList(schemas));
+				associations = Collections.unmodifiableMap(result);
+			}
+			return associations;
+		}
+	}
+
+	/**
+	 * Adds a listener notified, in any thread, when the associations may have
+	 * changed.
+	 */
+	static void addListener(Runnable listener) {
+		listeners.add(listener);
+	}
+
+	static void removeListener(Runnable listener) {
+		listeners.remove(listener);
+	}
+
+	private static void invalidate() {
+		synchronized (lock) {
+			associations = null;
+		}
+		// the YAML settings hold the same associations
+		SettingsSnapshot.invalidate();
+		listeners.forEach(Runnable::run);
+	}
+
+	private static void listen() {
+		if (!listening) {
+			listening = true;
+			Activator.getDefault().getPreferenceStore().addPropertyChangeListener(preferenceListener);
+			Platform.getContentTypeManager().addContentTypeChangeListener(contentTypeListener);
+			Platform.getExtensionRegistry().addListener(extensionListener, JSonLanguageServer.SCHEMA_EXT);
+			SchemaMirror mirror = SchemaMirror.getDefault();
+			if (mirror != null) {
+				mirror.addListener(SchemaAssociationIndex::invalidate);
+			}
+		}
+	}
+
+	private static void fillSchemaAssociationsFromPreferenceStore(Map<String, List<String>> associations) {
+		IPreferenceStore preferenceStore = Activator.getDefault().getPreferenceStore();
+		String schemaString = preferenceStore
+				.getString(SchemaAssociationsPreferenceInitializer.SCHEMA_ASSOCIATIONS_PREFERENCE);
+
+		Map<String, String> contentTypeAssociations = new Gson().fromJson(schemaString,
+				new TypeToken<HashMap<String, String>>() {
+				}.getType());
+
+		IContentTypeManager contentTypeManager = Platform.getContentTypeManager();
+		IContentType jsonBaseContentType = contentTypeManager.getContentType("org.eclipse.wildwebdeveloper.json");
+
+		contentTypeAssociations.forEach((key, value) -> {
+			IContentType contentType = contentTypeManager.getContentType(key);
+			if (contentType != null && contentType.getBaseType().equals(jsonBaseContentType)) {
+				String url = SchemaAssociationRegistry.translate(value);
+				String[] fileNames = contentType.getFileSpecs(IContentType.FILE_NAME_SPEC);
+				for (String fileName : fileNames) {
+					associations.put(fileName, Arrays.asList(url));
+				}
+
+				String[] filePatterns = contentType.getFileSpecs(IContentType.FILE_PATTERN_SPEC);
+				for (String pattern : filePatterns) {
+					associations.put(pattern, Arrays.asList(url));
+				}
+
+				String[] fileExtensions = contentType.getFileSpecs(IContentType.FILE_EXTENSION_SPEC);
+				for (String extension : fileExtensions) {
+					associations.put("*." + extension, Arrays.asList(url));
+				}
+			}
+		});
+	}
+
+	private static void fillSchemaAssociationsFromExtensionPoint(Map<String, List<String>> associations) {
+		IConfigurationElement[] conf = Platform.getExtensionRegistry()
+				.getConfigurationElementsFor(JSonLanguageServer.SCHEMA_EXT);
+		for (IConfigurationElement el : conf) {
+			String pattern = el.getAttribute(JSonLanguageServer.PATTERN_ATTR);
+			if (!associations.containsKey(pattern)) {
+				associations.put(pattern, new ArrayList<>());
+			}
+			associations.get(pattern).add(SchemaAssociationRegistry.translate(el.getAttribute(JSonLanguageServer.URL_ATTR)));
+		}
+	}
+}
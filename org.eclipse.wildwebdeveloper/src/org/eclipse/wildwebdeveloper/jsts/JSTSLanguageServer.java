@@ -27,7 +27,6 @@ import java.util.Map;
 
 import org.eclipse.core.runtime.FileLocator;
 import org.eclipse.core.runtime.ILog;
-import org.eclipse.lsp4j.DidChangeConfigurationParams;
 import org.eclipse.lsp4j.InitializeResult;
 import org.eclipse.lsp4j.jsonrpc.messages.Message;
 import org.eclipse.lsp4j.jsonrpc.messages.ResponseMessage;
@@ -36,6 +35,7 @@ import org.eclipse.wildwebdeveloper.Activator;
 import org.eclipse.wildwebdeveloper.embedder.node.NodeJSManager;
 import org.eclipse.wildwebdeveloper.jsts.ui.preferences.JSTSLanguagePreferences;
 import org.eclipse.wildwebdeveloper.ui.preferences.ProcessStreamConnectionProviderWithPreference;
+import org.eclipse.wildwebdeveloper.xml.internal.shared.SettingsPushes;
 
 public class JSTSLanguageServer extends ProcessStreamConnectionProviderWithPreference {
 
@@ -66,6 +66,17 @@ public class JSTSLanguageServer extends ProcessStreamConnectionProviderWithPrefe
 		}
 	}
 
+	@Override
+	protected int getMaxMemory() {
+		// the configured heap limit is for tsserver, see getInitializationOptions
+		return 0;
+	}
+
+	@Override
+	protected boolean canShareInstance() {
+		return true;
+	}
+
 	@Override
 	public Object getInitializationOptions(URI rootUri) {
 		Map<String, Object> options = new HashMap<>();
@@ -90,6 +101,9 @@ public class JSTSLanguageServer extends ProcessStreamConnectionProviderWithPrefe
 			ILog.get().error(e.getMessage(), e);
 		}
 		String maxTsServerMemory = System.getProperty("org.eclipse.wildwebdeveloper.maxTsServerMemory");
+		if (maxTsServerMemory == null && super.getMaxMemory() > 0) {
+			maxTsServerMemory = Integer.toString(super.getMaxMemory());
+		}
 		if (maxTsServerMemory != null) {
 			options.put("maxTsServerMemory", maxTsServerMemory);
 		}
@@ -116,9 +130,9 @@ public class JSTSLanguageServer extends ProcessStreamConnectionProviderWithPrefe
 		if (message instanceof ResponseMessage responseMessage) {
 			if (responseMessage.getResult() instanceof InitializeResult) {
 				// enable validation: so far, no better way found than changing conf after init.
-				DidChangeConfigurationParams params = new DidChangeConfigurationParams(createSettings());
-				languageServer.getWorkspaceService().didChangeConfiguration(params);
+				SettingsPushes.push(languageServer, createSettings());
 			}
 		}
+		super.handleMessage(message, languageServer, rootUri);
 	}
 }
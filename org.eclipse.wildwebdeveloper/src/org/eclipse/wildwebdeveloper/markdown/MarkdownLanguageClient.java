@@ -15,8 +15,6 @@ package org.eclipse.wildwebdeveloper.markdown;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.net.URI;
-import java.net.URISyntaxException;
-import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
@@ -29,6 +27,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResource;
@@ -37,7 +36,6 @@ import org.eclipse.core.resources.IResourceChangeListener;
 import org.eclipse.core.resources.IResourceDelta;
 import org.eclipse.core.resources.IWorkspaceRoot;
 import org.eclipse.core.resources.ResourcesPlugin;
-import org.eclipse.core.runtime.FileLocator;
 import org.eclipse.core.runtime.ILog;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.lsp4e.LSPEclipseUtils;
@@ -45,9 +43,7 @@ import org.eclipse.lsp4e.client.DefaultLanguageClient;
 import org.eclipse.lsp4j.ConfigurationItem;
 import org.eclipse.lsp4j.ConfigurationParams;
 import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
-import org.eclipse.wildwebdeveloper.embedder.node.NodeJSManager;
 import org.eclipse.wildwebdeveloper.markdown.ui.preferences.MarkdownPreferences;
-import org.eclipse.wildwebdeveloper.ui.preferences.Settings;
 import org.eclipse.wildwebdeveloper.util.FileUtils;
 
 import com.google.gson.Gson;
@@ -59,15 +55,6 @@ import com.google.gson.Gson;
  */
 public final class MarkdownLanguageClient extends DefaultLanguageClient {
 
-	private static Path resolveResource(final String resourcePath) throws IOException {
-		try {
-			final URL url = FileLocator.toFileURL(MarkdownLanguageClient.class.getResource(resourcePath));
-			return Paths.get(url.toURI()).toAbsolutePath();
-		} catch (URISyntaxException ex) {
-			throw new IOException("Failed to resolve resource URI: " + resourcePath, ex);
-		}
-	}
-
 	private static final class Watcher implements IResourceChangeListener {
 		final int id;
 		final Path watchRoot;
@@ -153,14 +140,16 @@ public final class MarkdownLanguageClient extends DefaultLanguageClient {
 		}
 	}
 
-	private static volatile String mdParseHelperPath;
+	private static final MarkdownParseCache parseCache = new MarkdownParseCache(MarkdownParseCache.DEFAULT_MAX_SIZE);
 
 	private final Map<Integer, Watcher> watchersById = new ConcurrentHashMap<>();
 
-	public MarkdownLanguageClient() throws IOException {
-		if (mdParseHelperPath == null) {
-			mdParseHelperPath = resolveResource("md-parse.js").toString();
-		}
+	/**
+	 * @return the cache of the <code>markdown/parse</code> results, shared by all
+	 *         the Markdown language servers
+	 */
+	public static MarkdownParseCache getParseCache() {
+		return parseCache;
 	}
 
 	@Override
@@ -170,8 +159,7 @@ public final class MarkdownLanguageClient extends DefaultLanguageClient {
 			for (final ConfigurationItem item : params.getItems()) {
 				final String section = item.getSection();
 				if (MarkdownPreferences.isMatchMarkdownSection(section)) {
-					final Settings md = MarkdownPreferences.getGlobalSettings();
-					results.add(md.findSettings(section.split("[.]")));
+					results.add(MarkdownPreferences.findSettings(section));
 				} else {
 					results.add(null);
 				}
@@ -197,7 +185,6 @@ public final class MarkdownLanguageClient extends DefaultLanguageClient {
 	@JsonRequest("markdown/parse")
 	public CompletableFuture<List<Map<String, Object>>> parseMarkdown(final Map<String, Object> params) {
 		return CompletableFuture.supplyAsync(() -> {
-			Path tmp = null;
 			try {
 				String text = null;
 				final boolean hasText = params != null && params.get("text") instanceof String;
@@ -217,25 +204,22 @@ public final class MarkdownLanguageClient extends DefaultLanguageClient {
 				if (!hasText && uriPath == null) {
 					return List.of();
 				}
-				final String argPath;
-				if (hasText) {
-					tmp = Files.createTempFile("wwd-md-", ".md");
-					Files.writeString(tmp, text, StandardCharsets.UTF_8);
-					argPath = tmp.toAbsolutePath().toString();
-				} else {
-					argPath = uriPath.toAbsolutePath().toString();
+				if (!hasText) {
+					text = Files.readString(uriPath, StandardCharsets.UTF_8);
 				}
-				final var pb = new ProcessBuilder(List.of(NodeJSManager.getNodeJsLocation().getAbsolutePath(), mdParseHelperPath, argPath));
-				final Process proc = pb.start();
-				final var out = new String(proc.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
-				final int exit = proc.waitFor();
-				if (exit != 0) {
-					final var err = new String(proc.getErrorStream().readAllBytes(), StandardCharsets.UTF_8);
-					ILog.get().warn("markdown-it parser failed (" + exit + "): " + err, null);
-					return List.of();
+				final String uriString = params != null && params.get("uri") != null ? params.get("uri").toString() : null;
+				final String hash = MarkdownParseCache.hash(text);
+				List<Map<String, Object>> tokens = uriString != null ? parseCache.get(uriString, hash) : null;
+				if (tokens == null) {
+					// parsed by the long-lived worker, see MarkdownParser
+					final String out = MarkdownParser.parse(text).get();
+					final var gson = new Gson();
+					tokens = gson.fromJson(out, List.class);
+					if (tokens != null && uriString != null) {
+						// the tokens take about as much memory as their JSON in UTF-16
+						parseCache.put(uriString, hash, tokens, out.length() * 2L);
+					}
 				}
-				final var gson = new Gson();
-				final List<Map<String, Object>> tokens = gson.fromJson(out, List.class);
 				// Opportunistically trigger a diagnostic pull for this document
 				try {
 					final var uri = URI.create((String) params.get("uri"));
@@ -250,14 +234,10 @@ public final class MarkdownLanguageClient extends DefaultLanguageClient {
 				ILog.get().warn(ex.getMessage(), ex);
 				/* Clean up whatever needs to be handled before interrupting  */
 				Thread.currentThread().interrupt();
+			} catch (final ExecutionException ex) {
+				ILog.get().warn(ex.getCause().getMessage(), ex.getCause());
 			} catch (final Exception ex) {
 				ILog.get().warn(ex.getMessage(), ex);
-			} finally {
-				if (tmp != null)
-					try {
-						Files.deleteIfExists(tmp);
-					} catch (final Exception ignore) {
-					}
 			}
 			return List.of();
 		});
@@ -24,10 +24,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.runtime.FileLocator;
-import org.eclipse.lsp4j.DidChangeConfigurationParams;
 import org.eclipse.lsp4j.InitializeResult;
 import org.eclipse.lsp4j.jsonrpc.messages.Message;
 import org.eclipse.lsp4j.jsonrpc.messages.ResponseMessage;
@@ -36,6 +36,7 @@ import org.eclipse.wildwebdeveloper.Activator;
 import org.eclipse.wildwebdeveloper.embedder.node.NodeJSManager;
 import org.eclipse.wildwebdeveloper.markdown.ui.preferences.MarkdownPreferences;
 import org.eclipse.wildwebdeveloper.ui.preferences.ProcessStreamConnectionProviderWithPreference;
+import org.eclipse.wildwebdeveloper.xml.internal.shared.SettingsPushes;
 
 /**
  * Launches the embedded Node.js based Markdown language server.
@@ -57,6 +58,7 @@ public final class MarkdownLanguageServer extends ProcessStreamConnectionProvide
 	// Track roots with ref-counts to avoid leaks when servers stop
 	private static final ConcurrentHashMap<String, AtomicInteger> SERVER_ROOT_COUNTS = new ConcurrentHashMap<>();
 	private String instanceRootUri;
+	private final AtomicBoolean usesParser = new AtomicBoolean();
 
 	public static Set<String> getServerRoots() {
 		return Collections.unmodifiableSet(SERVER_ROOT_COUNTS.keySet());
@@ -88,11 +90,17 @@ public final class MarkdownLanguageServer extends ProcessStreamConnectionProvide
 		setWorkingDirectory(System.getProperty("user.dir"));
 	}
 
+	@Override
+	protected boolean canShareInstance() {
+		return true;
+	}
+
 	@Override
 	public Map<String, Object> getInitializationOptions(final URI projectRootUri) {
 		final Map<String, Object> options = new HashMap<>();
 
 		if (projectRootUri != null) {
+			// for the next start of this launcher; a shared instance keeps the directory of its first project
 			setWorkingDirectory(projectRootUri.getRawPath());
 
 			// Remember this root for scoping client-side workspace queries
@@ -115,6 +123,19 @@ public final class MarkdownLanguageServer extends ProcessStreamConnectionProvide
 		return MarkdownPreferences.getGlobalSettings();
 	}
 
+	@Override
+	public void start() throws IOException {
+		if (usesParser.compareAndSet(false, true)) {
+			MarkdownParser.acquire();
+		}
+		try {
+			super.start();
+		} catch (IOException | RuntimeException e) {
+			releaseParser();
+			throw e;
+		}
+	}
+
 	@Override
 	public void stop() {
 		if (instanceRootUri != null) {
@@ -122,15 +143,22 @@ public final class MarkdownLanguageServer extends ProcessStreamConnectionProvide
 			instanceRootUri = null;
 		}
 		super.stop();
+		releaseParser();
+	}
+
+	private void releaseParser() {
+		if (usesParser.compareAndSet(true, false)) {
+			MarkdownParser.release();
+		}
 	}
 
 	@Override
 	public void handleMessage(final Message message, final LanguageServer languageServer, final URI rootUri) {
 		if (message instanceof final ResponseMessage response) {
 			if (response.getResult() instanceof InitializeResult) {
-				final var params = new DidChangeConfigurationParams(createSettings());
-				languageServer.getWorkspaceService().didChangeConfiguration(params);
+				SettingsPushes.push(languageServer, createSettings());
 			}
 		}
+		super.handleMessage(message, languageServer, rootUri);
 	}
 }
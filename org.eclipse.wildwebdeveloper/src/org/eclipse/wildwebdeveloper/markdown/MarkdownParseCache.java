@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wildwebdeveloper.markdown;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The markdown-it tokens of the last parsed content of each document, for
+ * the <code>markdown/parse</code> requests the server sends again for the
+ * same content, for folding, symbols, links and diagnostics.
+ * <p>
+ * The tokens of a document are kept with the hash of the parsed content and
+ * only returned for the same hash. The least recently used documents are
+ * evicted once the estimated size of all the tokens exceeds the maximum size.
+ * </p>
+ */
+public final class MarkdownParseCache {
+
+	public static final long DEFAULT_MAX_SIZE = 16 * 1024 * 1024;
+
+	private record Entry(String hash, List<Map<String, Object>> tokens, long size) {
+	}
+
+	private final long maxSize;
+	// by document URI, in access order
+	private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+	private long size;
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+
+	/**
+	 * @param maxSize
+	 *                    estimated size in bytes of the tokens to keep at most
+	 */
+	public MarkdownParseCache(long maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * @return the tokens of the given document if parsed from the content of
+	 *         the given hash, or <code>null</code>
+	 */
+	public synchronized List<Map<String, Object>> get(String uri, String hash) {
+		Entry entry = entries.get(uri);
+		if (entry != null && entry.hash().equals(hash)) {
+			hits.incrementAndGet();
+			return entry.tokens();
+		}
+		misses.incrementAndGet();
+		return null;
+	}
+
+	/**
+	 * Keeps the tokens of the given document, in place of the tokens of its
+	 * previous content.
+	 *
+	 * @param size
+	 *                 estimated size of the tokens in bytes
+	 */
+	public synchronized void put(String uri, String hash, List<Map<String, Object>> tokens, long size) {
+		Entry previous = entries.remove(uri);
+		if (previous != null) {
+			this.size -= previous.size();
+		}
+		if (size > maxSize) {
+			return;
+		}
+		entries.put(uri, new Entry(hash, tokens, size));
+		this.size += size;
+		for (Iterator<Entry> iterator = entries.values().iterator(); this.size > maxSize && iterator.hasNext();) {
+			this.size -= iterator.next().size();
+			iterator.remove();
+		}
+	}
+
+	/**
+	 * @return the hash identifying the given content
+	 */
+	public static String hash(String content) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			// required in every Java platform
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * @return the estimated size in bytes of the tokens kept
+	 */
+	public synchronized long getSize() {
+		return size;
+	}
+
+	/**
+	 * @return the number of requests served from the cache
+	 */
+	public long getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * @return the number of requests not found in the cache
+	 */
+	public long getMisses() {
+		return misses.get();
+	}
+}
@@ -0,0 +1,207 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wildwebdeveloper.markdown;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.lang.ProcessBuilder.Redirect;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.FileLocator;
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.wildwebdeveloper.embedder.node.NodeJSManager;
+import org.eclipse.wildwebdeveloper.server.NodeCompileCache;
+
+/**
+ * A long-lived <code>md-parse.js --worker</code> process parsing Markdown with
+ * markdown-it for the <code>markdown/parse</code> requests, instead of
+ * starting Node.js and loading markdown-it for each request. See
+ * <code>md-parse.js</code> for the framing of the requests and responses.
+ * <p>
+ * Requests are pipelined: they are written as they come, and each response
+ * completes the future of its request. The worker is started again by the
+ * next request after a crash. The Markdown language servers
+ * {@link #acquire() acquire} it when they start and {@link #release() release}
+ * it when they stop, and it is stopped when released by the last one.
+ * </p>
+ */
+public final class MarkdownParser {
+
+	private static MarkdownParser instance;
+	private static int users;
+
+	private final Process process;
+	private final DataOutputStream output;
+	private final Map<Integer, CompletableFuture<String>> pending = new ConcurrentHashMap<>();
+	private final AtomicInteger nextId = new AtomicInteger();
+	private volatile boolean stopped;
+
+	private MarkdownParser() throws IOException {
+		URL url = FileLocator.toFileURL(MarkdownParser.class.getResource("md-parse.js")); //$NON-NLS-1$
+		ProcessBuilder builder = NodeJSManager.prepareNodeProcessBuilder(new File(url.getPath()).getAbsolutePath(),
+				"--worker"); //$NON-NLS-1$
+		builder.redirectError(Redirect.INHERIT);
+		NodeCompileCache.configure(builder.environment(), MarkdownParser.class.getSimpleName());
+		process = builder.start();
+		output = new DataOutputStream(new BufferedOutputStream(process.getOutputStream()));
+		Thread reader = new Thread(this::readResponses, "markdown-it parser reader"); //$NON-NLS-1$
+		reader.setDaemon(true);
+		reader.start();
+	}
+
+	/**
+	 * Parses the given Markdown, starting the worker first if needed.
+	 *
+	 * @return the future of the markdown-it tokens serialized as a JSON array
+	 */
+	public static CompletableFuture<String> parse(String text) {
+		MarkdownParser parser;
+		synchronized (MarkdownParser.class) {
+			if (instance == null || instance.stopped) {
+				try {
+					instance = new MarkdownParser();
+				} catch (IOException e) {
+					return CompletableFuture.failedFuture(e);
+				}
+			}
+			parser = instance;
+		}
+		return parser.send(text);
+	}
+
+	/**
+	 * @return the process of the worker, or null if not running
+	 */
+	public static synchronized ProcessHandle getProcessHandle() {
+		return instance != null && !instance.stopped ? instance.process.toHandle() : null;
+	}
+
+	/**
+	 * Counts a Markdown language server using the worker, which keeps running
+	 * until {@link #release()}.
+	 */
+	public static synchronized void acquire() {
+		users++;
+	}
+
+	/**
+	 * Uncounts a Markdown language server using the worker, and stops it if
+	 * this was the last one.
+	 */
+	public static void release() {
+		MarkdownParser parser;
+		synchronized (MarkdownParser.class) {
+			users = Math.max(0, users - 1);
+			if (users > 0) {
+				return;
+			}
+			// in the same lock, a server acquiring the worker now gets a new one
+			parser = instance;
+			instance = null;
+		}
+		stop(parser);
+	}
+
+	/**
+	 * Stops the worker, if running.
+	 */
+	public static void shutdown() {
+		MarkdownParser parser;
+		synchronized (MarkdownParser.class) {
+			parser = instance;
+			instance = null;
+		}
+		stop(parser);
+	}
+
+	private static void stop(MarkdownParser parser) {
+		if (parser != null) {
+			try {
+				// The worker exits when its standard input ends
+				parser.output.close();
+			} catch (IOException e) {
+				// Already gone
+			}
+			parser.process.onExit().completeOnTimeout(parser.process, 5, TimeUnit.SECONDS)
+					.thenAccept(Process::destroyForcibly);
+		}
+	}
+
+	private CompletableFuture<String> send(String text) {
+		int id = nextId.incrementAndGet();
+		CompletableFuture<String> result = new CompletableFuture<>();
+		pending.put(id, result);
+		byte[] payload = text.getBytes(StandardCharsets.UTF_8);
+		try {
+			synchronized (output) {
+				output.writeInt(id);
+				output.writeInt(payload.length);
+				output.write(payload);
+				output.flush();
+			}
+		} catch (IOException e) {
+			pending.remove(id);
+			result.completeExceptionally(e);
+		}
+		// the reader may have failed the pending requests before this one was added
+		if (stopped && pending.remove(id) != null) {
+			result.completeExceptionally(new IOException("markdown-it parser has stopped")); //$NON-NLS-1$
+		}
+		return result;
+	}
+
+	private void readResponses() {
+		try (DataInputStream input = new DataInputStream(new BufferedInputStream(process.getInputStream()))) {
+			while (true) {
+				int id = input.readInt();
+				byte status = input.readByte();
+				int length = input.readInt();
+				byte[] payload = input.readNBytes(length);
+				if (payload.length < length) {
+					throw new EOFException();
+				}
+				CompletableFuture<String> result = pending.remove(id);
+				if (result == null) {
+					continue;
+				}
+				String content = new String(payload, StandardCharsets.UTF_8);
+				if (status == 0) {
+					result.complete(content);
+				} else {
+					result.completeExceptionally(new IOException("markdown-it parser failed: " + content)); //$NON-NLS-1$
+				}
+			}
+		} catch (EOFException e) {
+			// Worker stopped
+		} catch (IOException e) {
+			ILog.get().error(e.getMessage(), e);
+		} finally {
+			stopped = true;
+			IOException exception = new IOException("markdown-it parser has stopped"); //$NON-NLS-1$
+			pending.keySet().forEach(id -> {
+				CompletableFuture<String> result = pending.remove(id);
+				if (result != null) {
+					result.completeExceptionally(exception);
+				}
+			});
+		}
+	}
+}
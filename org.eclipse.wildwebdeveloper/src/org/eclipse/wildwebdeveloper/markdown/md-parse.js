@@ -13,7 +13,8 @@
  *******************************************************************************/
 
 // Simple Markdown-it parser for LSP client `markdown/parse`.
-// Accepts either a file path argument or reads from stdin and prints JSON array of tokens.
+// Accepts either a file path argument or reads from stdin and prints JSON array of tokens,
+// or runs as a long-lived worker with --worker.
 
 const fs = require('node:fs');
 
@@ -54,14 +55,57 @@ function tokenToJSON(tok) {
   return out;
 }
 
+function parse(input) {
+  const env = {};
+  const tokens = md.parse(input, env);
+  return JSON.stringify(tokens.map(tokenToJSON));
+}
+
+// With --worker, parses texts until stdin ends. The standard streams carry frames of:
+//   request:  id (uint32 BE) | text length (uint32 BE) | text (UTF-8)
+//   response: id (uint32 BE) | status (1 byte, 0 tokens, 1 error) | length (uint32 BE) | JSON tokens or error
+// Requests are answered in order, so they can be pipelined.
+const REQUEST_HEADER_LENGTH = 8;
+const RESPONSE_HEADER_LENGTH = 9;
+
+function runWorker() {
+  let input = Buffer.alloc(0);
+  process.stdin.on('data', (chunk) => {
+    input = input.length === 0 ? chunk : Buffer.concat([input, chunk]);
+    while (input.length >= REQUEST_HEADER_LENGTH) {
+      const length = input.readUInt32BE(4);
+      if (input.length < REQUEST_HEADER_LENGTH + length) {
+        break;
+      }
+      const id = input.readUInt32BE(0);
+      const text = input.toString('utf8', REQUEST_HEADER_LENGTH, REQUEST_HEADER_LENGTH + length);
+      input = input.subarray(REQUEST_HEADER_LENGTH + length);
+      let status = 0;
+      let payload;
+      try {
+        payload = Buffer.from(parse(text), 'utf8');
+      } catch (err) {
+        status = 1;
+        payload = Buffer.from(String(err && err.stack ? err.stack : err), 'utf8');
+      }
+      const header = Buffer.alloc(RESPONSE_HEADER_LENGTH);
+      header.writeUInt32BE(id, 0);
+      header[4] = status;
+      header.writeUInt32BE(payload.length, 5);
+      process.stdout.write(Buffer.concat([header, payload]));
+    }
+  });
+  // Eclipse went away
+  process.stdin.on('end', () => process.exit(0));
+}
+
 const argPath = process.argv[2];
-if (argPath) {
+if (argPath === '--worker') {
+  runWorker();
+} else if (argPath) {
   try {
     const input = fs.readFileSync(argPath, 'utf8');
-    const env = {};
-    const tokens = md.parse(input, env);
-    const json = tokens.map(tokenToJSON);
-    process.stdout.write(JSON.stringify(json));
+    process.stdout.write(parse(input));
   } catch (err) {
     console.error(String(err && err.stack ? err.stack : err));
     process.exit(1);
@@ -72,14 +116,10 @@ if (argPath) {
   process.stdin.on('data', (chunk) => (input += chunk));
   process.stdin.on('end', () => {
     try {
-      const env = {};
-      const tokens = md.parse(input, env);
-      const json = tokens.map(tokenToJSON);
-      process.stdout.write(JSON.stringify(json));
+      process.stdout.write(parse(input));
     } catch (err) {
       console.error(String(err && err.stack ? err.stack : err));
       process.exit(1);
     }
   });
 }
-
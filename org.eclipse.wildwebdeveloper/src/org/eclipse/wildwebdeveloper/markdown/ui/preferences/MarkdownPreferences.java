@@ -18,6 +18,7 @@ import org.eclipse.jface.preference.IPreferenceStore;
 import java.util.Arrays;
 import org.eclipse.wildwebdeveloper.Activator;
 import org.eclipse.wildwebdeveloper.ui.preferences.Settings;
+import org.eclipse.wildwebdeveloper.ui.preferences.SettingsSnapshot;
 
 /**
  * Markdown preference server constants and helpers.
@@ -100,6 +101,7 @@ public final class MarkdownPreferences {
 	}
 
 	private static final String MD_SECTION = "markdown";
+	private static final SettingsSnapshot SETTINGS = new SettingsSnapshot(MarkdownPreferences::getGlobalSettings);
 
 	static final String MD_SERVER_LOG = MD_SECTION + ".server.log"; // ServerLog
 
@@ -187,6 +189,14 @@ public final class MarkdownPreferences {
 				.toArray(String[]::new);
 	}
 
+	/**
+	 * @return the immutable markdown settings of the given section, shared by all
+	 *         configuration requests until the preferences change
+	 */
+	public static Object findSettings(String section) {
+		return SETTINGS.findSettings(section);
+	}
+
 	public static boolean isMatchMarkdownSection(final String section) {
 		return isMatchSection(section, MD_SECTION);
 	}
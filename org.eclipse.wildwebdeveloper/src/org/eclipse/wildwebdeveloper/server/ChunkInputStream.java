@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wildwebdeveloper.server;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Input stream of chunks added by another thread, so that a slow consumer does
+ * not block the thread dispatching to other consumers.
+ */
+final class ChunkInputStream extends InputStream {
+
+	private static final byte[] END = new byte[0];
+
+	private final BlockingQueue<byte[]> chunks = new LinkedBlockingQueue<>();
+	private byte[] current = new byte[0];
+	private int position;
+
+	void add(byte[] chunk) {
+		if (chunk.length > 0) {
+			chunks.add(chunk);
+		}
+	}
+
+	/**
+	 * Ends the stream once the chunks already added are read.
+	 */
+	void end() {
+		chunks.add(END);
+	}
+
+	@Override
+	public int read() throws IOException {
+		byte[] b = new byte[1];
+		return read(b, 0, 1) < 0 ? -1 : b[0] & 0xFF;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (len == 0) {
+			return 0;
+		}
+		while (position == current.length) {
+			if (current == END) {
+				return -1;
+			}
+			try {
+				current = chunks.take();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException();
+			}
+			position = 0;
+		}
+		int count = Math.min(len, current.length - position);
+		System.arraycopy(current, position, b, off, count);
+		position += count;
+		return count;
+	}
+
+	@Override
+	public int available() {
+		return current.length - position;
+	}
+}
@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wildwebdeveloper.server;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.wildwebdeveloper.server.ui.SuspendedServerNotification;
+
+/**
+ * Stops language servers crashing on startup from being restarted in a tight
+ * loop.
+ * <p>
+ * A crash is a server process exiting with an error while not stopped, or
+ * failing to start. After {@link #CRASH_THRESHOLD} crashes in a row, each
+ * within {@link #STABLE_TIME} of its start, the server is suspended: its
+ * starts fail right away, before any process is started, for a delay doubling
+ * with each further crash from {@link #INITIAL_BACKOFF} up to
+ * {@link #MAX_BACKOFF}. The suspension is logged and shown in a
+ * {@link SuspendedServerNotification notification}; {@link #retry(String)}
+ * ends it.
+ * </p>
+ */
+public final class CrashLoopGuard {
+
+	static final int CRASH_THRESHOLD = 3;
+	static final long STABLE_TIME = 60_000;
+	static final long INITIAL_BACKOFF = 10_000;
+	static final long MAX_BACKOFF = 10 * 60_000;
+
+	/**
+	 * Crashes in a row of a server, and the end of its suspension.
+	 */
+	public record Suspension(int crashes, long until) {
+	}
+
+	private static final Map<String, Suspension> crashes = new HashMap<>();
+
+	private CrashLoopGuard() {
+	}
+
+	/**
+	 * @throws IOException
+	 *                         if the given server is suspended
+	 */
+	static void checkStart(String serverName) throws IOException {
+		Suspension suspension;
+		synchronized (crashes) {
+			suspension = crashes.get(serverName);
+		}
+		long remaining = suspension != null ? suspension.until() - System.currentTimeMillis() : 0;
+		if (remaining > 0) {
+			throw new IOException(serverName + " suspended after " + suspension.crashes() //$NON-NLS-1$
+					+ " crashes in a row, next start in " + (remaining + 999) / 1000 + "s"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	/**
+	 * Records a crash of the given server, started at the given time.
+	 */
+	static void crashed(String serverName, long startTime) {
+		long now = System.currentTimeMillis();
+		Suspension suspension;
+		synchronized (crashes) {
+			Suspension previous = crashes.get(serverName);
+			int count = previous != null && now - startTime < STABLE_TIME ? previous.crashes() + 1 : 1;
+			long backoff = getBackoff(count);
+			suspension = new Suspension(count, backoff > 0 ? now + backoff : 0);
+			crashes.put(serverName, suspension);
+		}
+		if (suspension.until() > 0) {
+			long backoff = suspension.until() - now;
+			ILog.get().warn(serverName + " crashed " + suspension.crashes() //$NON-NLS-1$
+					+ " times in a row, suspended for " + backoff / 1000 + "s"); //$NON-NLS-1$ //$NON-NLS-2$
+			SuspendedServerNotification.show(serverName, suspension);
+		}
+	}
+
+	/**
+	 * Forgets the crashes of the given server, which ran long enough.
+	 */
+	static void stable(String serverName) {
+		synchronized (crashes) {
+			crashes.remove(serverName);
+		}
+	}
+
+	/**
+	 * @return the delay before the next start after the given number of crashes
+	 *         in a row, 0 for none
+	 */
+	static long getBackoff(int crashCount) {
+		if (crashCount < CRASH_THRESHOLD) {
+			return 0;
+		}
+		int doublings = Math.min(crashCount - CRASH_THRESHOLD, 30);
+		return Math.min(INITIAL_BACKOFF << doublings, MAX_BACKOFF);
+	}
+
+	/**
+	 * @return the suspensions of the suspended servers, by server name
+	 */
+	public static Map<String, Suspension> getSuspended() {
+		long now = System.currentTimeMillis();
+		synchronized (crashes) {
+			return crashes.entrySet().stream().filter(entry -> entry.getValue().until() > now)
+					.collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+		}
+	}
+
+	/**
+	 * @return whether the given server is suspended
+	 */
+	public static boolean isSuspended(String serverName) {
+		return getSuspended().containsKey(serverName);
+	}
+
+	/**
+	 * Ends the suspension of the given server, its next start is allowed.
+	 */
+	public static void retry(String serverName) {
+		stable(serverName);
+	}
+}
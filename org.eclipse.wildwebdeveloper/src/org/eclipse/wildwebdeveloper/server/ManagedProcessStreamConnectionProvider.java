@@ -0,0 +1,293 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wildwebdeveloper.server;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.lsp4e.server.ProcessStreamConnectionProvider;
+import org.eclipse.lsp4j.jsonrpc.messages.Message;
+import org.eclipse.lsp4j.services.LanguageServer;
+import org.eclipse.wildwebdeveloper.embedder.node.NodeJSManager;
+import org.eclipse.wildwebdeveloper.server.ui.preferences.LanguageServersPreferenceConstants;
+import org.eclipse.wildwebdeveloper.xml.internal.shared.IdleStop;
+
+/**
+ * Base class of the language server launchers of Wild Web Developer, deciding
+ * how the server configured by {@link #setCommands(List)} actually runs.
+ * <p>
+ * By default the server runs in a process of its own. Servers which can run as
+ * a worker thread of the shared {@link NodeHost} do so when host mode is
+ * enabled, other servers may take over a process started ahead of time by the
+ * {@link WarmServerPool}. Servers supporting workspace folders may serve all
+ * projects from one {@link SharedServer} process when enabled in the
+ * {@link LanguageServersPreferenceConstants preferences}. Node.js servers share
+ * the {@link NodeCompileCache}.
+ * </p>
+ * <p>
+ * Node.js servers get the heap limit configured in the
+ * {@link LanguageServersPreferenceConstants preferences}, and all servers are
+ * stopped through LSP4E once they had no open documents for the configured idle
+ * timeout, if any.
+ * Subclasses overriding {@link #handleMessage(Message, LanguageServer, URI)}
+ * must call the super implementation for documents to be tracked; LSP4E starts
+ * a stopped server again on its next document. Running servers count against
+ * the {@link ProcessBudget}, and servers crashing on startup are suspended by
+ * the {@link CrashLoopGuard}. Running servers are listed by
+ * {@link RunningLanguageServers}.
+ * </p>
+ */
+public abstract class ManagedProcessStreamConnectionProvider extends ProcessStreamConnectionProvider {
+
+	private volatile NodeHostChannel channel;
+	private volatile Process process;
+	private volatile SharedServer.Connection shared;
+	private final IdleStop idleStop = new IdleStop(getServerName(), this::stop);
+	private volatile long lastUsed;
+	private volatile long startTime;
+	private volatile LanguageServer languageServer;
+	// destroyed by stop(), its exit is not a crash
+	private volatile Process stoppedProcess;
+
+	/**
+	 * Whether this server can run in the shared {@link NodeHost}: its commands
+	 * must be the Node.js executable, the server script and the script
+	 * arguments, and the server must not need a process of its own (no
+	 * environment, Node.js options or working directory of its own, no child
+	 * processes talking through its standard streams).
+	 *
+	 * @return false by default
+	 */
+	protected boolean canRunInNodeHost() {
+		return false;
+	}
+
+	/**
+	 * Whether this server can serve several projects as workspace folders: it
+	 * must handle <code>workspace/didChangeWorkspaceFolders</code> and scope its
+	 * <code>workspace/configuration</code> requests to documents or folders.
+	 * Only the initialization options and working directory of the first
+	 * project are used by the shared instance.
+	 *
+	 * @return false by default
+	 */
+	protected boolean canShareInstance() {
+		return false;
+	}
+
+	/**
+	 * @return the name identifying this server in caches and logs, by default
+	 *         the simple name of the class
+	 */
+	protected String getServerName() {
+		return getClass().getSimpleName();
+	}
+
+	/**
+	 * @return the maximum size in megabytes of the V8 old generation heap of this
+	 *         Node.js server, or 0 for the Node.js default
+	 */
+	protected int getMaxMemory() {
+		return LanguageServersPreferenceConstants.getMaxMemory(getServerName());
+	}
+
+	boolean runsInNodeHost() {
+		List<String> commands = getCommands();
+		return canRunInNodeHost() && NodeHost.isEnabled() && commands != null && commands.size() > 1;
+	}
+
+	boolean sharesInstance() {
+		return canShareInstance() && LanguageServersPreferenceConstants.isSharedInstances();
+	}
+
+	@Override
+	public void start() throws IOException {
+		WarmServerPool.started(this);
+		CrashLoopGuard.checkStart(getServerName());
+		startTime = System.currentTimeMillis();
+		try {
+			if (runsInNodeHost()) {
+				List<String> commands = getCommands();
+				channel = NodeHost.open(commands.subList(1, commands.size()), getWorkingDirectory(), getMaxMemory());
+			} else if (sharesInstance()) {
+				shared = SharedServer.connect(this);
+			} else {
+				Process started = WarmServerPool.take(this);
+				if (started == null) {
+					started = createProcessBuilder().start();
+				}
+				if (!started.isAlive()) {
+					throw new IOException("Unable to start language server: " + this); //$NON-NLS-1$
+				}
+				process = started;
+			}
+		} catch (IOException e) {
+			CrashLoopGuard.crashed(getServerName(), startTime);
+			throw e;
+		}
+		Process started = process;
+		if (started != null) {
+			long currentStartTime = startTime;
+			started.onExit().thenAccept(exited -> {
+				if (exited.exitValue() != 0 && exited != stoppedProcess) {
+					CrashLoopGuard.crashed(getServerName(), currentStartTime);
+				}
+			});
+		}
+		lastUsed = System.currentTimeMillis();
+		idleStop.started();
+		ProcessBudget.started(this);
+	}
+
+
+	@Override
+	protected ProcessBuilder createProcessBuilder() {
+		return configure(super.createProcessBuilder(), getServerName(), getMaxMemory());
+	}
+
+	/**
+	 * Adds the heap limit and the compile cache of the server to a builder
+	 * running its commands.
+	 */
+	static ProcessBuilder configure(ProcessBuilder builder, String serverName, int maxMemory) {
+		List<String> commands = builder.command();
+		// null when Node.js is not found, which fails the start as before
+		File nodeJsLocation = NodeJSManager.getNodeJsLocation();
+		if (nodeJsLocation != null && !commands.isEmpty()
+				&& commands.get(0).equals(nodeJsLocation.getAbsolutePath())) {
+			if (maxMemory > 0) {
+				// copy, the builder shares the list of commands of this provider
+				commands = new ArrayList<>(commands);
+				commands.add(1, "--max-old-space-size=" + maxMemory); //$NON-NLS-1$
+				builder.command(commands);
+			}
+			NodeCompileCache.configure(builder.environment(), serverName);
+		}
+		return builder;
+	}
+
+	@Override
+	public void handleMessage(Message message, LanguageServer languageServer, URI rootUri) {
+		lastUsed = System.currentTimeMillis();
+		if (languageServer != this.languageServer && getProcessHandle() != null) {
+			this.languageServer = languageServer;
+			RunningLanguageServers.add(this, languageServer);
+		}
+		idleStop.handleMessage(message, languageServer);
+	}
+
+	/**
+	 * Stops this server as LSP4E does, see {@link IdleStop#stopThroughWrapper()}.
+	 */
+	void stopThroughWrapper() {
+		idleStop.stopThroughWrapper();
+	}
+
+	boolean hasOpenDocuments() {
+		return idleStop.hasOpenDocuments();
+	}
+
+	long getLastUsed() {
+		return lastUsed;
+	}
+
+	/**
+	 * @return the process running this server, shared with other servers in
+	 *         host mode, or null if not running
+	 */
+	ProcessHandle getProcessHandle() {
+		if (channel != null) {
+			return NodeHost.getProcessHandle();
+		}
+		SharedServer.Connection currentShared = shared;
+		if (currentShared != null) {
+			return currentShared.getProcessHandle();
+		}
+		Process current = process;
+		return current != null ? current.toHandle() : null;
+	}
+
+	@Override
+	public InputStream getInputStream() {
+		NodeHostChannel current = channel;
+		if (current != null) {
+			return current.getInputStream();
+		}
+		SharedServer.Connection currentShared = shared;
+		if (currentShared != null) {
+			return currentShared.getInputStream();
+		}
+		Process currentProcess = process;
+		return currentProcess != null ? currentProcess.getInputStream() : null;
+	}
+
+	@Override
+	public OutputStream getOutputStream() {
+		NodeHostChannel current = channel;
+		if (current != null) {
+			return current.getOutputStream();
+		}
+		SharedServer.Connection currentShared = shared;
+		if (currentShared != null) {
+			return currentShared.getOutputStream();
+		}
+		Process currentProcess = process;
+		return currentProcess != null ? currentProcess.getOutputStream() : null;
+	}
+
+	@Override
+	public InputStream getErrorStream() {
+		NodeHostChannel current = channel;
+		if (current != null) {
+			return current.getErrorStream();
+		}
+		SharedServer.Connection currentShared = shared;
+		if (currentShared != null) {
+			return currentShared.getErrorStream();
+		}
+		Process currentProcess = process;
+		return currentProcess != null ? currentProcess.getErrorStream() : null;
+	}
+
+	@Override
+	public void stop() {
+		if (startTime > 0 && System.currentTimeMillis() - startTime >= CrashLoopGuard.STABLE_TIME) {
+			CrashLoopGuard.stable(getServerName());
+		}
+		idleStop.stopped();
+		ProcessBudget.stopped(this);
+		languageServer = null;
+		RunningLanguageServers.remove(this);
+		NodeHostChannel current = channel;
+		if (current != null) {
+			channel = null;
+			current.close();
+		}
+		SharedServer.Connection currentShared = shared;
+		if (currentShared != null) {
+			shared = null;
+			currentShared.close();
+		}
+		Process currentProcess = process;
+		if (currentProcess != null) {
+			process = null;
+			if (currentProcess.isAlive()) {
+				stoppedProcess = currentProcess;
+			}
+			currentProcess.destroy();
+		}
+		super.stop();
+	}
+}
@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wildwebdeveloper.server;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.wildwebdeveloper.Activator;
+import org.eclipse.wildwebdeveloper.embedder.node.NodeJSCapability;
+import org.eclipse.wildwebdeveloper.embedder.node.NodeJSManager;
+
+/**
+ * Points the Node.js language servers at an on-disk V8 compile cache, so that
+ * their large bundles are parsed and compiled once rather than on every start.
+ * <p>
+ * Each server gets its own directory
+ * <code>&lt;state location&gt;/compile-cache/&lt;bundle version&gt;/&lt;server&gt;</code>,
+ * passed in the <code>NODE_COMPILE_CACHE</code> environment variable understood
+ * by Node.js 22.1 and later. Caches of other bundle versions are deleted and
+ * the cache of the current version is trimmed to {@link #MAX_SIZE} once per
+ * session, oldest files first. The
+ * <code>org.eclipse.wildwebdeveloper.compileCache</code> system property set to
+ * <code>false</code> disables the cache.
+ * </p>
+ */
+public final class NodeCompileCache {
+
+	public static final String ENABLED_PROPERTY = "org.eclipse.wildwebdeveloper.compileCache"; //$NON-NLS-1$
+	public static final String NODE_COMPILE_CACHE = "NODE_COMPILE_CACHE"; //$NON-NLS-1$
+
+	static final long MAX_SIZE = 256L * 1024 * 1024;
+
+	private static final String COMPILE_CACHE_DIRECTORY = "compile-cache"; //$NON-NLS-1$
+
+	private static final AtomicBoolean evictionScheduled = new AtomicBoolean();
+
+	private NodeCompileCache() {
+	}
+
+	/**
+	 * Adds the compile cache of the given server to the environment of a Node.js
+	 * process to start, unless the cache is disabled, not supported by the
+	 * Node.js runtime or already configured by the user.
+	 *
+	 * @param environment
+	 *                        environment of the process to start
+	 * @param serverName
+	 *                        name of the cache directory of the server
+	 */
+	public static void configure(Map<String, String> environment, String serverName) {
+		if (!"false".equalsIgnoreCase(System.getProperty(ENABLED_PROPERTY)) //$NON-NLS-1$
+				&& !environment.containsKey(NODE_COMPILE_CACHE)
+				&& NodeJSManager.supports(NodeJSCapability.COMPILE_CACHE)) {
+			File directory = getDirectory(serverName);
+			if (directory != null && (directory.isDirectory() || directory.mkdirs())) {
+				environment.put(NODE_COMPILE_CACHE, directory.getAbsolutePath());
+				scheduleEviction();
+			}
+		}
+	}
+
+	/**
+	 * @return the cache directory of the given server for this bundle version,
+	 *         or null if there is no state location
+	 */
+	public static File getDirectory(String serverName) {
+		File versionRoot = getVersionRoot();
+		return versionRoot != null ? new File(versionRoot, serverName) : null;
+	}
+
+	private static File getVersionRoot() {
+		Activator activator = Activator.getDefault();
+		if (activator == null) {
+			return null;
+		}
+		return Platform.getStateLocation(activator.getBundle()).append(COMPILE_CACHE_DIRECTORY)
+				.append(activator.getBundle().getVersion().toString()).toFile();
+	}
+
+	private static void scheduleEviction() {
+		if (evictionScheduled.compareAndSet(false, true)) {
+			Job job = Job.create("Trim Node.js compile cache", monitor -> { //$NON-NLS-1$
+				File versionRoot = getVersionRoot();
+				if (versionRoot != null) {
+					try {
+						evict(versionRoot.toPath(), MAX_SIZE);
+					} catch (IOException e) {
+						ILog.get().warn("Cannot trim Node.js compile cache: " + e.getMessage()); //$NON-NLS-1$
+					}
+				}
+			});
+			job.setSystem(true);
+			job.setPriority(Job.DECORATE);
+			job.schedule();
+		}
+	}
+
+	/**
+	 * Deletes the caches of other bundle versions, then the oldest files of the
+	 * current one until it fits in the given size.
+	 */
+	static void evict(Path versionRoot, long maxSize) throws IOException {
+		Path root = versionRoot.getParent();
+		if (Files.isDirectory(root)) {
+			try (Stream<Path> versions = Files.list(root)) {
+				for (Path version : versions.filter(path -> !path.equals(versionRoot)).toList()) {
+					deleteRecursively(version);
+				}
+			}
+		}
+		if (!Files.isDirectory(versionRoot)) {
+			return;
+		}
+		record CacheFile(Path path, long size, long lastModified) {
+		}
+		List<CacheFile> files = new ArrayList<>();
+		long totalSize = 0;
+		try (Stream<Path> walk = Files.walk(versionRoot)) {
+			for (Path path : walk.filter(Files::isRegularFile).toList()) {
+				BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+				files.add(new CacheFile(path, attributes.size(), attributes.lastModifiedTime().toMillis()));
+				totalSize += attributes.size();
+			}
+		}
+		if (totalSize <= maxSize) {
+			return;
+		}
+		files.sort(Comparator.comparingLong(CacheFile::lastModified));
+		for (CacheFile file : files) {
+			if (totalSize <= maxSize) {
+				break;
+			}
+			Files.deleteIfExists(file.path());
+			totalSize -= file.size();
+		}
+	}
+
+	private static void deleteRecursively(Path root) throws IOException {
+		try (Stream<Path> walk = Files.walk(root)) {
+			for (Path path : walk.sorted(Comparator.reverseOrder()).toList()) {
+				Files.deleteIfExists(path);
+			}
+		}
+	}
+}
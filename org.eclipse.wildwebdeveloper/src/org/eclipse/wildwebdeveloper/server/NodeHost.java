@@ -0,0 +1,199 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wildwebdeveloper.server;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.lang.ProcessBuilder.Redirect;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.FileLocator;
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.wildwebdeveloper.embedder.node.NodeJSManager;
+
+import com.google.gson.Gson;
+
+/**
+ * A single Node.js process running several language servers, each in its own
+ * <code>worker_thread</code>, to share one runtime instead of starting one
+ * process per server. The servers talk to Eclipse through
+ * {@link NodeHostChannel}s multiplexed over the standard streams of the host,
+ * see <code>node-host.js</code> for the protocol.
+ * <p>
+ * Host mode is opt-in with the
+ * <code>org.eclipse.wildwebdeveloper.nodeHost</code> system property. The host
+ * is started with the first channel and stopped with the last one.
+ * </p>
+ */
+public final class NodeHost {
+
+	public static final String ENABLED_PROPERTY = "org.eclipse.wildwebdeveloper.nodeHost"; //$NON-NLS-1$
+
+	static final byte CONTROL = 0;
+	static final byte DATA = 1;
+	static final byte ERROR = 2;
+
+	private static NodeHost instance;
+
+	private final Process process;
+	private final DataOutputStream output;
+	private final Map<Integer, NodeHostChannel> channels = new ConcurrentHashMap<>();
+	private final AtomicInteger nextChannelId = new AtomicInteger();
+
+	public static boolean isEnabled() {
+		return Boolean.getBoolean(ENABLED_PROPERTY);
+	}
+
+	/**
+	 * Starts a language server in the shared host, starting the host first if
+	 * needed.
+	 *
+	 * @param command
+	 *                    the script of the server followed by its arguments
+	 * @param workingDirectory
+	 *                    directory the server resolves relative paths against,
+	 *                    or null
+	 * @param maxMemory
+	 *                    maximum size in megabytes of the old generation heap
+	 *                    of the server, or 0 for the Node.js default
+	 * @return the channel to talk to the server
+	 */
+	public static synchronized NodeHostChannel open(List<String> command, String workingDirectory, int maxMemory)
+			throws IOException {
+		if (instance == null || !instance.process.isAlive()) {
+			instance = new NodeHost();
+		}
+		return instance.openChannel(command, workingDirectory, maxMemory);
+	}
+
+	/**
+	 * @return the process of the host, or null if not running
+	 */
+	static synchronized ProcessHandle getProcessHandle() {
+		return instance != null && instance.process.isAlive() ? instance.process.toHandle() : null;
+	}
+
+	private NodeHost() throws IOException {
+		URL url = FileLocator.toFileURL(NodeHost.class.getResource("node-host.js")); //$NON-NLS-1$
+		ProcessBuilder builder = NodeJSManager.prepareNodeProcessBuilder(new File(url.getPath()).getAbsolutePath());
+		builder.directory(new File(System.getProperty("user.dir"))); //$NON-NLS-1$
+		builder.redirectError(Redirect.INHERIT);
+		NodeCompileCache.configure(builder.environment(), NodeHost.class.getSimpleName());
+		process = builder.start();
+		output = new DataOutputStream(new BufferedOutputStream(process.getOutputStream()));
+		Thread reader = new Thread(this::readFrames, "Node.js host reader"); //$NON-NLS-1$
+		reader.setDaemon(true);
+		reader.start();
+	}
+
+	private NodeHostChannel openChannel(List<String> command, String workingDirectory, int maxMemory)
+			throws IOException {
+		NodeHostChannel channel = new NodeHostChannel(this, nextChannelId.incrementAndGet());
+		channels.put(channel.getId(), channel);
+		String main = command.get(0);
+		if (workingDirectory != null && !new File(main).isAbsolute()) {
+			main = new File(workingDirectory, main).getAbsolutePath();
+		}
+		byte[] open = new Gson().toJson(Map.of("op", "open", "main", main, //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				"args", command.subList(1, command.size()), //$NON-NLS-1$
+				"maxMemory", maxMemory)).getBytes(StandardCharsets.UTF_8); //$NON-NLS-1$
+		try {
+			send(CONTROL, channel.getId(), open, 0, open.length);
+		} catch (IOException e) {
+			channels.remove(channel.getId());
+			throw e;
+		}
+		return channel;
+	}
+
+	void send(byte type, int channelId, byte[] payload, int offset, int length) throws IOException {
+		synchronized (output) {
+			output.writeByte(type);
+			output.writeInt(channelId);
+			output.writeInt(length);
+			output.write(payload, offset, length);
+			output.flush();
+		}
+	}
+
+	void close(NodeHostChannel channel) {
+		channels.remove(channel.getId());
+		try {
+			byte[] close = "{\"op\":\"close\"}".getBytes(StandardCharsets.UTF_8); //$NON-NLS-1$
+			send(CONTROL, channel.getId(), close, 0, close.length);
+		} catch (IOException e) {
+			// The host is gone and so is the server
+		}
+		synchronized (NodeHost.class) {
+			if (channels.isEmpty()) {
+				if (instance == this) {
+					instance = null;
+				}
+				shutdown();
+			}
+		}
+	}
+
+	private void shutdown() {
+		try {
+			// The host exits when its standard input ends
+			output.close();
+		} catch (IOException e) {
+			// Already gone
+		}
+		process.onExit().completeOnTimeout(process, 5, TimeUnit.SECONDS).thenAccept(Process::destroyForcibly);
+	}
+
+	private void readFrames() {
+		try (DataInputStream input = new DataInputStream(new BufferedInputStream(process.getInputStream()))) {
+			while (true) {
+				byte type = input.readByte();
+				int channelId = input.readInt();
+				int length = input.readInt();
+				byte[] payload = input.readNBytes(length);
+				if (payload.length < length) {
+					throw new EOFException();
+				}
+				NodeHostChannel channel = channels.get(channelId);
+				if (channel == null) {
+					continue;
+				}
+				switch (type) {
+				case DATA -> channel.received(payload);
+				case ERROR -> channel.receivedError(payload);
+				case CONTROL -> {
+					// The only message of the host is the exit of the server
+					channels.remove(channelId);
+					channel.terminated();
+				}
+				default -> ILog.get().warn("Unexpected frame type from Node.js host: " + type); //$NON-NLS-1$
+				}
+			}
+		} catch (EOFException e) {
+			// Host stopped
+		} catch (IOException e) {
+			ILog.get().error(e.getMessage(), e);
+		} finally {
+			channels.values().forEach(NodeHostChannel::terminated);
+			channels.clear();
+		}
+	}
+}
@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wildwebdeveloper.server;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * The standard streams of a language server running in the {@link NodeHost}.
+ */
+public final class NodeHostChannel {
+
+	private final NodeHost host;
+	private final int id;
+	private final ChunkInputStream input = new ChunkInputStream();
+	private final ChunkInputStream error = new ChunkInputStream();
+	private final OutputStream output = new OutputStream() {
+
+		@Override
+		public void write(int b) throws IOException {
+			write(new byte[] { (byte) b }, 0, 1);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			if (terminated) {
+				throw new IOException("Language server has stopped"); //$NON-NLS-1$
+			}
+			host.send(NodeHost.DATA, id, b, off, len);
+		}
+	};
+	private volatile boolean terminated;
+	private boolean closed;
+
+	NodeHostChannel(NodeHost host, int id) {
+		this.host = host;
+		this.id = id;
+	}
+
+	int getId() {
+		return id;
+	}
+
+	public InputStream getInputStream() {
+		return input;
+	}
+
+	public InputStream getErrorStream() {
+		return error;
+	}
+
+	public OutputStream getOutputStream() {
+		return output;
+	}
+
+	public boolean isAlive() {
+		return !terminated;
+	}
+
+	/**
+	 * Stops the server and releases the host if this was its last server.
+	 */
+	public synchronized void close() {
+		if (!closed) {
+			closed = true;
+			host.close(this);
+			terminated();
+		}
+	}
+
+	void received(byte[] data) {
+		input.add(data);
+	}
+
+	void receivedError(byte[] data) {
+		error.add(data);
+	}
+
+	void terminated() {
+		if (!terminated) {
+			terminated = true;
+			input.end();
+			error.end();
+		}
+	}
+}
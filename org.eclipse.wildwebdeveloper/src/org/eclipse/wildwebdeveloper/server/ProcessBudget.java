@@ -0,0 +1,252 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wildwebdeveloper.server;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.wildwebdeveloper.server.ui.preferences.LanguageServersPreferenceConstants;
+
+/**
+ * Keeps the language servers of Wild Web Developer within the number of
+ * processes and the total resident memory configured in the
+ * {@link LanguageServersPreferenceConstants preferences}.
+ * <p>
+ * When a server starts beyond the process limit, or the periodic measure of
+ * the resident memory of the servers and their child processes exceeds the
+ * memory limit, the least recently used servers without open documents are
+ * stopped through LSP4E, which starts them again on their next document.
+ * Servers with open documents and the server which just started are never
+ * stopped, so the limits may be exceeded while they are in use.
+ * </p>
+ */
+public final class ProcessBudget {
+
+	static final long MEASURE_INTERVAL = 30_000;
+
+	private static final Set<ManagedProcessStreamConnectionProvider> servers = new HashSet<>();
+
+	private static final Job measureJob = Job.create("Measure language servers memory", monitor -> { //$NON-NLS-1$
+		enforce(null);
+		scheduleMeasure();
+	});
+	static {
+		measureJob.setSystem(true);
+	}
+
+	/**
+	 * A running server as accounted by the budget.
+	 *
+	 * @param server
+	 *                             the server
+	 * @param hasOpenDocuments
+	 *                             whether documents are open in the server
+	 * @param lastUsed
+	 *                             time of its last message, in milliseconds
+	 * @param memory
+	 *                             resident memory in bytes freed by stopping it,
+	 *                             0 if unknown or shared with other servers
+	 */
+	public record Usage<T>(T server, boolean hasOpenDocuments, long lastUsed, long memory) {
+	}
+
+	private ProcessBudget() {
+	}
+
+	static void started(ManagedProcessStreamConnectionProvider server) {
+		synchronized (servers) {
+			servers.add(server);
+		}
+		enforce(server);
+		scheduleMeasure();
+	}
+
+	static void stopped(ManagedProcessStreamConnectionProvider server) {
+		synchronized (servers) {
+			servers.remove(server);
+		}
+	}
+
+	/**
+	 * @return the number of running language servers
+	 */
+	public static int getServerCount() {
+		synchronized (servers) {
+			return servers.size();
+		}
+	}
+
+	private static void scheduleMeasure() {
+		if (LanguageServersPreferenceConstants.getMaxTotalMemory() > 0 && getServerCount() > 0
+				&& measureJob.getState() == Job.NONE) {
+			measureJob.schedule(MEASURE_INTERVAL);
+		}
+	}
+
+	private static void enforce(ManagedProcessStreamConnectionProvider started) {
+		int maxProcesses = LanguageServersPreferenceConstants.getMaxProcesses();
+		long maxTotalMemory = LanguageServersPreferenceConstants.getMaxTotalMemory() * 1024 * 1024;
+		if (maxProcesses <= 0 && maxTotalMemory <= 0) {
+			return;
+		}
+		List<ManagedProcessStreamConnectionProvider> running;
+		synchronized (servers) {
+			running = new ArrayList<>(servers);
+		}
+		int count = running.size();
+		long totalMemory = maxTotalMemory > 0 ? getTotalResidentMemory() : 0;
+		if ((maxProcesses <= 0 || count <= maxProcesses) && (maxTotalMemory <= 0 || totalMemory <= maxTotalMemory)) {
+			return;
+		}
+		running.remove(started);
+		List<Usage<ManagedProcessStreamConnectionProvider>> usages = running.stream()
+				.map(server -> new Usage<>(server, server.hasOpenDocuments(), server.getLastUsed(),
+						maxTotalMemory > 0 ? getFreedMemory(server) : 0))
+				.toList();
+		List<ManagedProcessStreamConnectionProvider> toStop = selectServersToStop(usages, count, totalMemory,
+				maxProcesses, maxTotalMemory);
+		if (toStop.isEmpty()) {
+			return;
+		}
+		ILog.get().info("Stopping " + toStop + " to stay within the language servers budget: " + count //$NON-NLS-1$ //$NON-NLS-2$
+				+ " servers, " + totalMemory / (1024 * 1024) + "MB"); //$NON-NLS-1$ //$NON-NLS-2$
+		// not while LSP4E starts the server which triggered the check
+		Job stop = Job.create("Stop language servers over budget", monitor -> { //$NON-NLS-1$
+			toStop.forEach(ManagedProcessStreamConnectionProvider::stopThroughWrapper);
+		});
+		stop.setSystem(true);
+		stop.schedule();
+	}
+
+	/**
+	 * Chooses the servers to stop to get within the limits: the least recently
+	 * used servers without open documents, until the limits are met or no such
+	 * server is left.
+	 *
+	 * @param servers
+	 *                           the running servers which may be stopped
+	 * @param count
+	 *                           number of running servers
+	 * @param totalMemory
+	 *                           resident memory in bytes of the running servers
+	 * @param maxProcesses
+	 *                           maximum number of running servers, 0 for no
+	 *                           limit
+	 * @param maxTotalMemory
+	 *                           maximum resident memory in bytes, 0 for no limit
+	 * @return the servers to stop, least recently used first
+	 */
+	public static <T> List<T> selectServersToStop(List<Usage<T>> servers, int count, long totalMemory,
+			int maxProcesses, long maxTotalMemory) {
+		List<Usage<T>> idle = new ArrayList<>(servers.stream().filter(usage -> !usage.hasOpenDocuments()).toList());
+		idle.sort(Comparator.comparingLong(Usage::lastUsed));
+		List<T> selected = new ArrayList<>();
+		for (Usage<T> usage : idle) {
+			boolean overCount = maxProcesses > 0 && count > maxProcesses;
+			boolean overMemory = maxTotalMemory > 0 && totalMemory > maxTotalMemory;
+			if (!overCount && !overMemory) {
+				break;
+			}
+			selected.add(usage.server());
+			count--;
+			totalMemory -= usage.memory();
+		}
+		return selected;
+	}
+
+	/*
+	 * Servers sharing their process with others free little memory when stopped.
+	 */
+	private static long getFreedMemory(ManagedProcessStreamConnectionProvider server) {
+		ProcessHandle process = server.getProcessHandle();
+		return process != null && !isShared(process) ? Math.max(getResidentMemory(process), 0) : 0;
+	}
+
+	private static boolean isShared(ProcessHandle process) {
+		synchronized (servers) {
+			return servers.stream().map(ManagedProcessStreamConnectionProvider::getProcessHandle)
+					.filter(process::equals).count() > 1;
+		}
+	}
+
+	private static long getTotalResidentMemory() {
+		Set<ProcessHandle> processes = new LinkedHashSet<>();
+		synchronized (servers) {
+			servers.stream().map(ManagedProcessStreamConnectionProvider::getProcessHandle)
+					.filter(Objects::nonNull).forEach(processes::add);
+		}
+		return processes.stream().mapToLong(ProcessBudget::getResidentMemory).filter(memory -> memory > 0).sum();
+	}
+
+	/**
+	 * @return the resident memory in bytes of the given process and its
+	 *         descendants, or -1 if unknown (Windows)
+	 */
+	public static long getResidentMemory(ProcessHandle process) {
+		if (process == null || !process.isAlive()) {
+			return 0;
+		}
+		List<Long> pids = Stream.concat(Stream.of(process), process.descendants()).map(ProcessHandle::pid).toList();
+		if (Platform.OS_LINUX.equals(Platform.getOS())) {
+			long total = 0;
+			for (long pid : pids) {
+				total += getLinuxResidentMemory(pid);
+			}
+			return total;
+		} else if (Platform.OS_MACOSX.equals(Platform.getOS())) {
+			return getPsResidentMemory(pids);
+		}
+		return -1;
+	}
+
+	private static long getLinuxResidentMemory(long pid) {
+		try {
+			for (String line : Files.readAllLines(Path.of("/proc", Long.toString(pid), "status"))) { //$NON-NLS-1$ //$NON-NLS-2$
+				if (line.startsWith("VmRSS:")) { //$NON-NLS-1$
+					return Long.parseLong(line.substring("VmRSS:".length()).replace("kB", "").trim()) * 1024; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				}
+			}
+		} catch (IOException | NumberFormatException e) {
+			// process ended
+		}
+		return 0;
+	}
+
+	private static long getPsResidentMemory(List<Long> pids) {
+		try {
+			Process ps = new ProcessBuilder("ps", "-o", "rss=", "-p", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+					pids.stream().map(String::valueOf).collect(Collectors.joining(","))).start(); //$NON-NLS-1$
+			String output = new String(ps.getInputStream().readAllBytes(), StandardCharsets.US_ASCII);
+			ps.waitFor(5, TimeUnit.SECONDS);
+			return output.lines().map(String::trim).filter(line -> !line.isEmpty()).mapToLong(Long::parseLong).sum()
+					* 1024;
+		} catch (IOException | NumberFormatException e) {
+			return -1;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return -1;
+		}
+	}
+}
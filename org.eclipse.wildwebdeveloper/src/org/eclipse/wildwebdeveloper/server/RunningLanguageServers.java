@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wildwebdeveloper.server;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.lsp4j.services.LanguageServer;
+
+/**
+ * The running language servers of Wild Web Developer, to notify all of them
+ * without looking them up through every project and open document.
+ * <p>
+ * A server is registered with the LSP4E proxy of its connection on its first
+ * message, and removed when stopped.
+ * </p>
+ */
+public final class RunningLanguageServers {
+
+	private static final Map<ManagedProcessStreamConnectionProvider, LanguageServer> servers = new ConcurrentHashMap<>();
+
+	private RunningLanguageServers() {
+	}
+
+	static void add(ManagedProcessStreamConnectionProvider provider, LanguageServer languageServer) {
+		servers.put(provider, languageServer);
+	}
+
+	static void remove(ManagedProcessStreamConnectionProvider provider) {
+		servers.remove(provider);
+	}
+
+	/**
+	 * @return the proxies of the running servers started by the given provider
+	 *         class
+	 */
+	public static List<LanguageServer> get(Class<? extends ManagedProcessStreamConnectionProvider> providerType) {
+		return servers.entrySet().stream().filter(entry -> entry.getKey().getClass() == providerType)
+				.map(Map.Entry::getValue).toList();
+	}
+
+	/**
+	 * @return the number of running servers
+	 */
+	public static int size() {
+		return servers.size();
+	}
+}
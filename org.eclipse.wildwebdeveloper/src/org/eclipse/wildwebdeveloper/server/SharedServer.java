@@ -0,0 +1,824 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wildwebdeveloper.server;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.eclipse.core.runtime.ILog;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+/**
+ * One language server process serving the launchers of several projects, each
+ * project being a workspace folder of the server.
+ * <p>
+ * The first launcher initializes the server. The <code>initialize</code>
+ * requests of the following launchers are answered with the result of the
+ * first one, and their folders added with
+ * <code>workspace/didChangeWorkspaceFolders</code>. The request ids of the
+ * launchers are renumbered so that they do not collide. Requests and
+ * notifications of the server go to the launcher of the folder containing the
+ * URI they refer to, and otherwise to the oldest launcher. The items of a
+ * <code>workspace/configuration</code> request are answered by the launcher of
+ * their own <code>scopeUri</code>. Capability registrations and refresh
+ * requests go to every launcher, and the registrations are sent again to the
+ * launchers initialized later. <code>shutdown</code> and <code>exit</code>
+ * only reach the server from the last launcher; the folders of the other ones
+ * are removed instead.
+ * </p>
+ * <p>
+ * Only the <code>initialize</code> request of the first launcher reaches the
+ * server, so its <code>initializationOptions</code> and the working directory
+ * of its process apply to every project: a server sharing its instance must be
+ * given options that do not depend on the project, and find the projects from
+ * the workspace folders.
+ * </p>
+ */
+final class SharedServer {
+
+	private static final String CONTENT_LENGTH = "Content-Length:"; //$NON-NLS-1$
+	private static final byte[] HEADER_END = { '\r', '\n', '\r', '\n' };
+
+	private static final Map<String, SharedServer> servers = new HashMap<>();
+
+	private static final String CLIENT_REQUEST_ID = "shared-"; //$NON-NLS-1$
+	private static final String REGISTER_CAPABILITY = "client/registerCapability"; //$NON-NLS-1$
+	private static final String UNREGISTER_CAPABILITY = "client/unregisterCapability"; //$NON-NLS-1$
+
+	private record PendingRequest(Connection connection, JsonElement id, boolean initialize) {
+	}
+
+	// a request of the server, or of this class, sent to one launcher
+	private record ClientRequest(Connection connection, Consumer<JsonObject> callback) {
+	}
+
+	/**
+	 * The standard streams of one launcher of a shared server.
+	 */
+	final class Connection {
+
+		private final ChunkInputStream input = new ChunkInputStream();
+		private final ChunkInputStream error = new ChunkInputStream();
+		private final OutputStream output = new MessageOutputStream(this);
+		private List<String> folders = List.of();
+		private volatile boolean initialized;
+		private volatile boolean closed;
+
+		InputStream getInputStream() {
+			return input;
+		}
+
+		InputStream getErrorStream() {
+			return error;
+		}
+
+		OutputStream getOutputStream() {
+			return output;
+		}
+
+		ProcessHandle getProcessHandle() {
+			return process.toHandle();
+		}
+
+		/**
+		 * Disconnects the launcher, and stops the server if it was the last one.
+		 */
+		void close() {
+			SharedServer.this.close(this, false);
+		}
+
+		void send(JsonObject message) {
+			if (!closed) {
+				input.add(frame(message));
+			}
+		}
+
+		void terminated() {
+			closed = true;
+			input.end();
+			error.end();
+		}
+	}
+
+	/*
+	 * Parses the messages written by LSP4E, which writes each message in
+	 * several parts.
+	 */
+	private final class MessageOutputStream extends OutputStream {
+
+		private final Connection connection;
+		private byte[] buffer = new byte[8192];
+		private int length;
+
+		MessageOutputStream(Connection connection) {
+			this.connection = connection;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			write(new byte[] { (byte) b }, 0, 1);
+		}
+
+		@Override
+		public synchronized void write(byte[] b, int off, int len) throws IOException {
+			if (connection.closed) {
+				throw new IOException("Language server has stopped"); //$NON-NLS-1$
+			}
+			if (length + len > buffer.length) {
+				buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + len));
+			}
+			System.arraycopy(b, off, buffer, length, len);
+			length += len;
+			int start = 0;
+			try {
+				int headerEnd;
+				while ((headerEnd = indexOf(buffer, start, length, HEADER_END)) >= 0) {
+					int contentLength = parseContentLength(
+							new String(buffer, start, headerEnd - start, StandardCharsets.US_ASCII));
+					int contentStart = headerEnd + HEADER_END.length;
+					if (length - contentStart < contentLength) {
+						break;
+					}
+					JsonObject message = parse(
+							new String(buffer, contentStart, contentLength, StandardCharsets.UTF_8));
+					start = contentStart + contentLength;
+					fromClient(connection, message);
+				}
+			} finally {
+				System.arraycopy(buffer, start, buffer, 0, length - start);
+				length -= start;
+			}
+		}
+	}
+
+	private final String name;
+	private final Process process;
+	private final OutputStream serverInput;
+	private final List<Connection> connections = new CopyOnWriteArrayList<>();
+	private final Map<Long, PendingRequest> pendingRequests = new ConcurrentHashMap<>();
+	private final Map<String, ClientRequest> clientRequests = new ConcurrentHashMap<>();
+	private final Map<String, Connection> progressTokens = new ConcurrentHashMap<>();
+	private final AtomicLong nextId = new AtomicLong();
+	// guarded by this
+	private final Map<String, Integer> folders = new LinkedHashMap<>();
+	// by registration id
+	private final Map<String, JsonObject> registrations = new LinkedHashMap<>();
+	private final List<String> pendingFolders = new ArrayList<>();
+	private final List<PendingRequest> waitingInitialize = new ArrayList<>();
+	private boolean initializeSent;
+	private boolean initializedSent;
+	private JsonObject initializeResponse;
+	private JsonElement initializationOptions;
+	private boolean shutdown;
+
+	private SharedServer(String name, Process process) {
+		this.name = name;
+		this.process = process;
+		this.serverInput = new BufferedOutputStream(process.getOutputStream());
+		Thread reader = new Thread(this::readMessages, "Shared " + name + " reader"); //$NON-NLS-1$ //$NON-NLS-2$
+		reader.setDaemon(true);
+		reader.start();
+		Thread errorReader = new Thread(this::readErrors, "Shared " + name + " error reader"); //$NON-NLS-1$ //$NON-NLS-2$
+		errorReader.setDaemon(true);
+		errorReader.start();
+	}
+
+	/**
+	 * Connects the given launcher to the shared server of its kind, starting the
+	 * server with the process builder of the launcher if not running.
+	 */
+	static Connection connect(ManagedProcessStreamConnectionProvider provider) throws IOException {
+		return connect(provider.getServerName(), provider::createProcessBuilder);
+	}
+
+	static Connection connect(String name, Supplier<ProcessBuilder> processBuilder) throws IOException {
+		synchronized (servers) {
+			SharedServer server = servers.get(name);
+			Connection connection = server != null && server.process.isAlive() ? server.open() : null;
+			if (connection == null) {
+				server = new SharedServer(name, processBuilder.get().start());
+				servers.put(name, server);
+				connection = server.open();
+			}
+			return connection;
+		}
+	}
+
+	private synchronized Connection open() {
+		if (shutdown) {
+			return null;
+		}
+		Connection connection = new Connection();
+		connections.add(connection);
+		return connection;
+	}
+
+	private void fromClient(Connection connection, JsonObject message) throws IOException {
+		JsonElement method = message.get("method"); //$NON-NLS-1$
+		JsonElement id = message.get("id"); //$NON-NLS-1$
+		if (method == null) {
+			if (id != null && id.isJsonPrimitive()
+					&& clientRequests.remove(id.getAsString()) instanceof ClientRequest request) {
+				request.callback().accept(message);
+			} else {
+				// response to a request of the server
+				sendToServer(message);
+			}
+		} else if (id == null) {
+			switch (method.getAsString()) {
+			case "initialized" -> { //$NON-NLS-1$
+				boolean first;
+				List<JsonObject> registered;
+				synchronized (this) {
+					connection.initialized = true;
+					first = !initializedSent;
+					initializedSent = true;
+					registered = new ArrayList<>(registrations.values());
+				}
+				if (first) {
+					sendToServer(message);
+					sendPendingFolders();
+				} else if (!registered.isEmpty()) {
+					// registered before this launcher joined
+					JsonArray array = new JsonArray();
+					registered.forEach(array::add);
+					JsonObject params = new JsonObject();
+					params.add("registrations", array); //$NON-NLS-1$
+					JsonObject request = new JsonObject();
+					request.addProperty("jsonrpc", "2.0"); //$NON-NLS-1$ //$NON-NLS-2$
+					request.addProperty("method", REGISTER_CAPABILITY); //$NON-NLS-1$
+					request.add("params", params); //$NON-NLS-1$
+					sendToClient(connection, request, response -> {
+						// already answered by the other launchers
+					});
+				}
+			}
+			case "exit" -> close(connection, true); //$NON-NLS-1$
+			case "$/cancelRequest" -> { //$NON-NLS-1$
+				JsonObject params = message.getAsJsonObject("params"); //$NON-NLS-1$
+				pendingRequests.forEach((serverId, pending) -> {
+					if (pending.connection() == connection && pending.id().equals(params.get("id"))) { //$NON-NLS-1$
+						params.addProperty("id", serverId); //$NON-NLS-1$
+					}
+				});
+				sendToServer(message);
+			}
+			default -> sendToServer(message);
+			}
+		} else if ("initialize".equals(method.getAsString())) { //$NON-NLS-1$
+			initialize(connection, id, message);
+		} else if ("shutdown".equals(method.getAsString()) && connections.size() > 1) { //$NON-NLS-1$
+			// other launchers still use the server
+			JsonObject response = new JsonObject();
+			response.addProperty("jsonrpc", "2.0"); //$NON-NLS-1$ //$NON-NLS-2$
+			response.add("id", id); //$NON-NLS-1$
+			response.add("result", JsonNull.INSTANCE); //$NON-NLS-1$
+			connection.send(response);
+		} else {
+			forward(connection, id, message, false);
+		}
+	}
+
+	private void initialize(Connection connection, JsonElement id, JsonObject message) throws IOException {
+		JsonObject response;
+		synchronized (this) {
+			JsonObject params = message.getAsJsonObject("params"); //$NON-NLS-1$
+			JsonElement options = params != null ? params.get("initializationOptions") : null; //$NON-NLS-1$
+			connection.folders = getFolders(params);
+			if (!initializeSent) {
+				initializeSent = true;
+				initializationOptions = options;
+				connection.folders.forEach(folder -> folders.merge(folder, 1, Integer::sum));
+				response = null;
+			} else {
+				if (!Objects.equals(options, initializationOptions)) {
+					ILog.get().warn("Initialization options of " + connection.folders //$NON-NLS-1$
+							+ " ignored by shared " + name + ", which uses the ones of its first project"); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+				for (String folder : connection.folders) {
+					if (folders.merge(folder, 1, Integer::sum) == 1) {
+						pendingFolders.add(folder);
+					}
+				}
+				if (initializeResponse == null) {
+					waitingInitialize.add(new PendingRequest(connection, id, false));
+					return;
+				}
+				response = initializeResponse.deepCopy();
+			}
+		}
+		if (response == null) {
+			forward(connection, id, message, true);
+		} else {
+			response.add("id", id); //$NON-NLS-1$
+			connection.send(response);
+			sendPendingFolders();
+		}
+	}
+
+	private void forward(Connection connection, JsonElement id, JsonObject message, boolean initialize)
+			throws IOException {
+		long serverId = nextId.incrementAndGet();
+		pendingRequests.put(serverId, new PendingRequest(connection, id, initialize));
+		if (message.get("params") instanceof JsonObject params) { //$NON-NLS-1$
+			rememberProgressToken(params.get("workDoneToken"), connection); //$NON-NLS-1$
+			rememberProgressToken(params.get("partialResultToken"), connection); //$NON-NLS-1$
+		}
+		message.addProperty("id", serverId); //$NON-NLS-1$
+		sendToServer(message);
+	}
+
+	private void rememberProgressToken(JsonElement token, Connection connection) {
+		if (token != null && token.isJsonPrimitive()) {
+			progressTokens.put(token.getAsString(), connection);
+		}
+	}
+
+	private void sendPendingFolders() {
+		List<String> added;
+		synchronized (this) {
+			if (!initializedSent || pendingFolders.isEmpty()) {
+				return;
+			}
+			added = new ArrayList<>(pendingFolders);
+			pendingFolders.clear();
+		}
+		sendFolderChange(added, List.of());
+	}
+
+	private void sendFolderChange(List<String> added, List<String> removed) {
+		JsonObject event = new JsonObject();
+		event.add("added", toWorkspaceFolders(added)); //$NON-NLS-1$
+		event.add("removed", toWorkspaceFolders(removed)); //$NON-NLS-1$
+		JsonObject params = new JsonObject();
+		params.add("event", event); //$NON-NLS-1$
+		JsonObject notification = new JsonObject();
+		notification.addProperty("jsonrpc", "2.0"); //$NON-NLS-1$ //$NON-NLS-2$
+		notification.addProperty("method", "workspace/didChangeWorkspaceFolders"); //$NON-NLS-1$ //$NON-NLS-2$
+		notification.add("params", params); //$NON-NLS-1$
+		try {
+			sendToServer(notification);
+		} catch (IOException e) {
+			// server stopped
+		}
+	}
+
+	private void close(Connection connection, boolean exit) {
+		boolean last;
+		List<String> removed = new ArrayList<>();
+		synchronized (this) {
+			if (connection.closed) {
+				return;
+			}
+			connections.remove(connection);
+			last = connections.isEmpty();
+			shutdown |= last;
+			for (String folder : connection.folders) {
+				if (folders.merge(folder, -1, Integer::sum) <= 0) {
+					folders.remove(folder);
+					if (!pendingFolders.remove(folder)) {
+						removed.add(folder);
+					}
+				}
+			}
+			removed = initializedSent ? removed : List.of();
+		}
+		connection.terminated();
+		clientRequests.forEach((id, request) -> {
+			if (request.connection() == connection && clientRequests.remove(id, request)) {
+				request.callback().accept(null);
+			}
+		});
+		if (last) {
+			synchronized (servers) {
+				servers.remove(name, this);
+			}
+			if (exit) {
+				JsonObject notification = new JsonObject();
+				notification.addProperty("jsonrpc", "2.0"); //$NON-NLS-1$ //$NON-NLS-2$
+				notification.addProperty("method", "exit"); //$NON-NLS-1$ //$NON-NLS-2$
+				try {
+					sendToServer(notification);
+				} catch (IOException e) {
+					// already stopped
+				}
+				process.onExit().completeOnTimeout(process, 5, TimeUnit.SECONDS).thenAccept(Process::destroy);
+			} else {
+				process.destroy();
+			}
+		} else if (!removed.isEmpty()) {
+			sendFolderChange(List.of(), removed);
+		}
+	}
+
+	private void fromServer(JsonObject message) {
+		JsonElement method = message.get("method"); //$NON-NLS-1$
+		if (method == null) {
+			if (message.get("id") instanceof JsonElement id && id.isJsonPrimitive() //$NON-NLS-1$
+					&& id.getAsJsonPrimitive().isNumber()) {
+				PendingRequest pending = pendingRequests.remove(id.getAsLong());
+				if (pending != null) {
+					message.add("id", pending.id()); //$NON-NLS-1$
+					if (pending.initialize()) {
+						initialized(message);
+					}
+					pending.connection().send(message);
+				}
+			}
+			return;
+		}
+		JsonElement params = message.get("params"); //$NON-NLS-1$
+		if (message.get("id") instanceof JsonElement id) { //$NON-NLS-1$
+			String request = method.getAsString();
+			if (REGISTER_CAPABILITY.equals(request) || UNREGISTER_CAPABILITY.equals(request)
+					|| request.startsWith("workspace/") && request.endsWith("/refresh")) { //$NON-NLS-1$ //$NON-NLS-2$
+				broadcast(request, id, message);
+				return;
+			}
+			if ("workspace/workspaceFolders".equals(request)) { //$NON-NLS-1$
+				JsonObject response = new JsonObject();
+				synchronized (this) {
+					response.add("result", toWorkspaceFolders(new ArrayList<>(folders.keySet()))); //$NON-NLS-1$
+				}
+				respond(id, response);
+				return;
+			}
+			if ("workspace/configuration".equals(request) && params instanceof JsonObject object //$NON-NLS-1$
+					&& object.get("items") instanceof JsonArray items && items.size() > 1) { //$NON-NLS-1$
+				configure(id, message, items);
+				return;
+			}
+		}
+		Connection target = route(method.getAsString(), params);
+		if (target != null) {
+			if ("window/workDoneProgress/create".equals(method.getAsString()) && params instanceof JsonObject object) { //$NON-NLS-1$
+				rememberProgressToken(object.get("token"), target); //$NON-NLS-1$
+			}
+			target.send(message);
+		}
+	}
+
+	private void initialized(JsonObject response) {
+		List<PendingRequest> waiting;
+		synchronized (this) {
+			initializeResponse = response.deepCopy();
+			waiting = new ArrayList<>(waitingInitialize);
+			waitingInitialize.clear();
+		}
+		for (PendingRequest pending : waiting) {
+			JsonObject copy = response.deepCopy();
+			copy.add("id", pending.id()); //$NON-NLS-1$
+			pending.connection().send(copy);
+		}
+	}
+
+	/*
+	 * Sends the request to every initialized launcher, and answers the server
+	 * with the first successful response once all of them have answered.
+	 */
+	private void broadcast(String method, JsonElement id, JsonObject message) {
+		List<Connection> targets = new ArrayList<>();
+		synchronized (this) {
+			if (message.get("params") instanceof JsonObject params) { //$NON-NLS-1$
+				if (REGISTER_CAPABILITY.equals(method) && params.get("registrations") instanceof JsonArray added) { //$NON-NLS-1$
+					for (JsonElement registration : added) {
+						String registrationId = getId(registration);
+						if (registrationId != null) {
+							registrations.put(registrationId, registration.getAsJsonObject());
+						}
+					}
+				} else if (UNREGISTER_CAPABILITY.equals(method)
+						// misspelled in the specification
+						&& params.get("unregisterations") instanceof JsonArray removed) { //$NON-NLS-1$
+					for (JsonElement unregistration : removed) {
+						registrations.remove(getId(unregistration));
+					}
+				}
+			}
+			for (Connection connection : connections) {
+				if (connection.initialized) {
+					targets.add(connection);
+				}
+			}
+		}
+		if (targets.isEmpty()) {
+			respond(id, null);
+			return;
+		}
+		AtomicInteger remaining = new AtomicInteger(targets.size());
+		AtomicReference<JsonObject> answer = new AtomicReference<>();
+		for (Connection connection : targets) {
+			sendToClient(connection, message, response -> {
+				if (response != null) {
+					answer.accumulateAndGet(response,
+							(previous, next) -> previous == null || previous.has("error") ? next : previous); //$NON-NLS-1$
+				}
+				if (remaining.decrementAndGet() == 0) {
+					respond(id, answer.get());
+				}
+			});
+		}
+	}
+
+	/*
+	 * Sends the items of the configuration request to the launchers of their
+	 * scopes, and answers the server once all of them have answered.
+	 */
+	private void configure(JsonElement id, JsonObject message, JsonArray items) {
+		Map<Connection, List<Integer>> groups = new LinkedHashMap<>();
+		for (int i = 0; i < items.size(); i++) {
+			Connection connection = route(findUri(items.get(i)));
+			if (connection != null) {
+				groups.computeIfAbsent(connection, key -> new ArrayList<>()).add(i);
+			}
+		}
+		if (groups.size() <= 1) {
+			groups.keySet().forEach(connection -> connection.send(message));
+			return;
+		}
+		JsonArray results = new JsonArray();
+		items.forEach(item -> results.add(JsonNull.INSTANCE));
+		AtomicInteger remaining = new AtomicInteger(groups.size());
+		groups.forEach((connection, indexes) -> {
+			JsonArray subset = new JsonArray();
+			indexes.forEach(index -> subset.add(items.get(index)));
+			JsonObject request = message.deepCopy();
+			request.getAsJsonObject("params").add("items", subset); //$NON-NLS-1$ //$NON-NLS-2$
+			sendToClient(connection, request, response -> {
+				if (response != null && response.get("result") instanceof JsonArray values) { //$NON-NLS-1$
+					synchronized (results) {
+						for (int i = 0; i < indexes.size() && i < values.size(); i++) {
+							results.set(indexes.get(i), values.get(i));
+						}
+					}
+				}
+				if (remaining.decrementAndGet() == 0) {
+					JsonObject answer = new JsonObject();
+					answer.add("result", results); //$NON-NLS-1$
+					respond(id, answer);
+				}
+			});
+		});
+	}
+
+	/*
+	 * Sends a request to the launcher with an id of this class, its response
+	 * being given to the callback instead of the server, or null if the
+	 * launcher disconnects first.
+	 */
+	private void sendToClient(Connection connection, JsonObject request, Consumer<JsonObject> callback) {
+		String id = CLIENT_REQUEST_ID + nextId.incrementAndGet();
+		clientRequests.put(id, new ClientRequest(connection, callback));
+		JsonObject copy = request.deepCopy();
+		copy.addProperty("id", id); //$NON-NLS-1$
+		connection.send(copy);
+		if (connection.closed && clientRequests.remove(id) != null) {
+			callback.accept(null);
+		}
+	}
+
+	/*
+	 * Answers a request of the server with the result or error of the given
+	 * response, or a null result.
+	 */
+	private void respond(JsonElement id, JsonObject response) {
+		JsonObject message = new JsonObject();
+		message.addProperty("jsonrpc", "2.0"); //$NON-NLS-1$ //$NON-NLS-2$
+		message.add("id", id); //$NON-NLS-1$
+		if (response != null && response.get("error") instanceof JsonElement error) { //$NON-NLS-1$
+			message.add("error", error); //$NON-NLS-1$
+		} else {
+			message.add("result", response != null && response.get("result") instanceof JsonElement result //$NON-NLS-1$ //$NON-NLS-2$
+					? result
+					: JsonNull.INSTANCE);
+		}
+		try {
+			sendToServer(message);
+		} catch (IOException e) {
+			// server stopped
+		}
+	}
+
+	private Connection route(String method, JsonElement params) {
+		if ("$/progress".equals(method) && params instanceof JsonObject object //$NON-NLS-1$
+				&& object.get("token") instanceof JsonElement token && token.isJsonPrimitive()) { //$NON-NLS-1$
+			Connection connection = progressTokens.get(token.getAsString());
+			if (connection != null && !connection.closed) {
+				return connection;
+			}
+		}
+		return route(findUri(params));
+	}
+
+	/*
+	 * The launcher of the innermost folder containing the URI, or the oldest
+	 * launcher.
+	 */
+	private Connection route(String uri) {
+		Connection best = null;
+		int bestLength = -1;
+		for (Connection connection : connections) {
+			if (best == null) {
+				best = connection;
+			}
+			if (uri != null) {
+				for (String folder : connection.folders) {
+					if (folder.length() > bestLength && isInFolder(uri, folder)) {
+						best = connection;
+						bestLength = folder.length();
+					}
+				}
+			}
+		}
+		return best;
+	}
+
+	private static String getId(JsonElement registration) {
+		return registration instanceof JsonObject object && object.get("id") instanceof JsonElement id //$NON-NLS-1$
+				&& id.isJsonPrimitive() ? id.getAsString() : null;
+	}
+
+	private static String findUri(JsonElement params) {
+		if (!(params instanceof JsonObject object)) {
+			return null;
+		}
+		if (object.get("uri") instanceof JsonElement uri && uri.isJsonPrimitive()) { //$NON-NLS-1$
+			return uri.getAsString();
+		}
+		if (object.get("scopeUri") instanceof JsonElement uri && uri.isJsonPrimitive()) { //$NON-NLS-1$
+			return uri.getAsString();
+		}
+		if (object.get("textDocument") instanceof JsonObject document) { //$NON-NLS-1$
+			return findUri(document);
+		}
+		if (object.get("items") instanceof JsonArray items && !items.isEmpty()) { //$NON-NLS-1$
+			return findUri(items.get(0));
+		}
+		return null;
+	}
+
+	private static boolean isInFolder(String uri, String folder) {
+		return uri.equals(folder) || uri.startsWith(folder.endsWith("/") ? folder : folder + '/'); //$NON-NLS-1$
+	}
+
+	private static List<String> getFolders(JsonObject params) {
+		List<String> result = new ArrayList<>();
+		if (params != null && params.get("workspaceFolders") instanceof JsonArray workspaceFolders) { //$NON-NLS-1$
+			for (JsonElement folder : workspaceFolders) {
+				if (folder instanceof JsonObject object && object.get("uri") instanceof JsonElement uri) { //$NON-NLS-1$
+					result.add(uri.getAsString());
+				}
+			}
+		}
+		if (result.isEmpty() && params != null && params.get("rootUri") instanceof JsonElement rootUri //$NON-NLS-1$
+				&& rootUri.isJsonPrimitive()) {
+			result.add(rootUri.getAsString());
+		}
+		return result;
+	}
+
+	private static JsonArray toWorkspaceFolders(List<String> uris) {
+		JsonArray result = new JsonArray();
+		for (String uri : uris) {
+			String path = uri.endsWith("/") ? uri.substring(0, uri.length() - 1) : uri; //$NON-NLS-1$
+			JsonObject folder = new JsonObject();
+			folder.addProperty("uri", uri); //$NON-NLS-1$
+			folder.addProperty("name", path.substring(path.lastIndexOf('/') + 1)); //$NON-NLS-1$
+			result.add(folder);
+		}
+		return result;
+	}
+
+	private void sendToServer(JsonObject message) throws IOException {
+		byte[] bytes = frame(message);
+		synchronized (serverInput) {
+			serverInput.write(bytes);
+			serverInput.flush();
+		}
+	}
+
+	private void readMessages() {
+		try (InputStream input = new BufferedInputStream(process.getInputStream())) {
+			JsonObject message;
+			while ((message = readMessage(input)) != null) {
+				fromServer(message);
+			}
+		} catch (IOException | IllegalStateException e) {
+			if (process.isAlive()) {
+				ILog.get().error("Invalid message from shared " + name + ": " + e.getMessage(), e); //$NON-NLS-1$ //$NON-NLS-2$
+				process.destroy();
+			}
+		}
+		synchronized (this) {
+			shutdown = true;
+		}
+		synchronized (servers) {
+			servers.remove(name, this);
+		}
+		connections.forEach(Connection::terminated);
+		connections.clear();
+	}
+
+	private void readErrors() {
+		byte[] buffer = new byte[8192];
+		try (InputStream error = process.getErrorStream()) {
+			int count;
+			while ((count = error.read(buffer)) >= 0) {
+				byte[] chunk = Arrays.copyOf(buffer, count);
+				connections.stream().findFirst().ifPresent(connection -> connection.error.add(chunk));
+			}
+		} catch (IOException e) {
+			// process stopped
+		}
+	}
+
+	private static JsonObject readMessage(InputStream input) throws IOException {
+		ByteArrayOutputStream headers = new ByteArrayOutputStream();
+		int matched = 0;
+		while (matched < HEADER_END.length) {
+			int b = input.read();
+			if (b < 0) {
+				return null;
+			}
+			headers.write(b);
+			matched = b == HEADER_END[matched] ? matched + 1 : b == HEADER_END[0] ? 1 : 0;
+		}
+		int contentLength = parseContentLength(headers.toString(StandardCharsets.US_ASCII));
+		byte[] content = input.readNBytes(contentLength);
+		if (content.length < contentLength) {
+			return null;
+		}
+		return parse(new String(content, StandardCharsets.UTF_8));
+	}
+
+	private static int parseContentLength(String headers) throws IOException {
+		for (String header : headers.split("\r\n")) { //$NON-NLS-1$
+			if (header.regionMatches(true, 0, CONTENT_LENGTH, 0, CONTENT_LENGTH.length())) {
+				try {
+					return Integer.parseInt(header.substring(CONTENT_LENGTH.length()).trim());
+				} catch (NumberFormatException e) {
+					break;
+				}
+			}
+		}
+		throw new IOException("Missing Content-Length header: " + headers); //$NON-NLS-1$
+	}
+
+	private static JsonObject parse(String content) throws IOException {
+		try {
+			return JsonParser.parseString(content).getAsJsonObject();
+		} catch (JsonParseException | IllegalStateException e) {
+			throw new IOException("Invalid message: " + e.getMessage(), e); //$NON-NLS-1$
+		}
+	}
+
+	private static byte[] frame(JsonObject message) {
+		byte[] content = message.toString().getBytes(StandardCharsets.UTF_8);
+		byte[] header = (CONTENT_LENGTH + ' ' + content.length + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII); //$NON-NLS-1$
+		byte[] result = Arrays.copyOf(header, header.length + content.length);
+		System.arraycopy(content, 0, result, header.length, content.length);
+		return result;
+	}
+
+	private static int indexOf(byte[] buffer, int from, int to, byte[] target) {
+		for (int i = from; i <= to - target.length; i++) {
+			if (Arrays.equals(buffer, i, i + target.length, target, 0, target.length)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+}
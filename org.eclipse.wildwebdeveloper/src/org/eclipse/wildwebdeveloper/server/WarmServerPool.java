@@ -0,0 +1,293 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wildwebdeveloper.server;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.ProcessBuilder.Redirect;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.content.IContentType;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.wildwebdeveloper.css.CSSLanguageServer;
+import org.eclipse.wildwebdeveloper.html.HTMLLanguageServer;
+import org.eclipse.wildwebdeveloper.json.JSonLanguageServer;
+import org.eclipse.wildwebdeveloper.server.ui.preferences.LanguageServersPreferenceConstants;
+import org.eclipse.wildwebdeveloper.yaml.YAMLLanguageServer;
+
+/**
+ * Starts language server processes ahead of time, so that opening the first
+ * file of a kind does not wait for Node.js to start and load the server.
+ * <p>
+ * When enabled with the <code>org.eclipse.wildwebdeveloper.warmServers</code>
+ * system property, the workspace is scanned when the first language server
+ * starts and one standby process is started for each other pooled server having
+ * files in the workspace. The launcher
+ * of the server takes it over on its first {@link #take(ManagedProcessStreamConnectionProvider)
+ * start}; standby processes not taken within {@link #STANDBY_TIMEOUT} are
+ * stopped. The property is either <code>true</code> for all pooled servers, or
+ * a comma separated list of their names among <code>json</code>,
+ * <code>yaml</code>, <code>css</code> and <code>html</code>.
+ * </p>
+ * <p>
+ * Only the process is started, from the command line of the server without
+ * creating its launcher: LSP4E still initializes the server once it takes it
+ * over.
+ * </p>
+ */
+public final class WarmServerPool {
+
+	public static final String ENABLED_PROPERTY = "org.eclipse.wildwebdeveloper.warmServers"; //$NON-NLS-1$
+
+	static final long STANDBY_TIMEOUT = 10 * 60 * 1000;
+
+	// the pooled servers can all run in the NodeHost
+	private record PooledServer(Class<? extends ManagedProcessStreamConnectionProvider> type,
+			Supplier<List<String>> commands, String... contentTypes) {
+	}
+
+	private record Standby(List<String> command, String directory, Process process) {
+	}
+
+	private static final Map<String, PooledServer> SERVERS = new LinkedHashMap<>();
+	static {
+		SERVERS.put("json", new PooledServer(JSonLanguageServer.class, JSonLanguageServer::createCommands, //$NON-NLS-1$
+				"org.eclipse.tm4e.language_pack.json")); //$NON-NLS-1$
+		SERVERS.put("yaml", new PooledServer(YAMLLanguageServer.class, YAMLLanguageServer::createCommands, //$NON-NLS-1$
+				"org.eclipse.tm4e.language_pack.yaml")); //$NON-NLS-1$
+		SERVERS.put("css", new PooledServer(CSSLanguageServer.class, CSSLanguageServer::createCommands, //$NON-NLS-1$
+				"org.eclipse.tm4e.language_pack.css", "org.eclipse.tm4e.language_pack.scss", //$NON-NLS-1$ //$NON-NLS-2$
+				"org.eclipse.tm4e.language_pack.less")); //$NON-NLS-1$
+		SERVERS.put("html", new PooledServer(HTMLLanguageServer.class, HTMLLanguageServer::createCommands, //$NON-NLS-1$
+				"org.eclipse.tm4e.language_pack.html")); //$NON-NLS-1$
+	}
+
+	private static final Map<String, Standby> standbys = new HashMap<>();
+	private static final AtomicBoolean prewarmed = new AtomicBoolean();
+
+	private WarmServerPool() {
+	}
+
+	/**
+	 * @return the names of the servers to keep warm according to
+	 *         {@link #ENABLED_PROPERTY}
+	 */
+	public static Set<String> getEnabledServers() {
+		String value = System.getProperty(ENABLED_PROPERTY);
+		if (value == null || value.isBlank() || "false".equalsIgnoreCase(value)) { //$NON-NLS-1$
+			return Set.of();
+		}
+		if ("true".equalsIgnoreCase(value)) { //$NON-NLS-1$
+			return SERVERS.keySet();
+		}
+		return Set.copyOf(Arrays.stream(value.split(",")).map(String::trim).filter(SERVERS::containsKey).toList()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Prewarms the other enabled servers when the first language server starts.
+	 */
+	static void started(ManagedProcessStreamConnectionProvider provider) {
+		if (!prewarmed.getAndSet(true)) {
+			Set<String> enabled = new HashSet<>(getEnabledServers());
+			enabled.remove(getName(provider));
+			prewarm(enabled);
+		}
+	}
+
+	/**
+	 * Schedules the scan of the workspace for files of the enabled servers, and
+	 * the start of their standby processes.
+	 */
+	public static void prewarm() {
+		prewarm(getEnabledServers());
+	}
+
+	private static void prewarm(Set<String> enabled) {
+		if (enabled.isEmpty()) {
+			return;
+		}
+		Job job = Job.create("Starting language servers", monitor -> { //$NON-NLS-1$
+			for (String name : findServersWithFiles(enabled)) {
+				if (monitor.isCanceled()) {
+					return;
+				}
+				prepare(name);
+			}
+		});
+		job.setSystem(true);
+		job.setPriority(Job.DECORATE);
+		job.schedule();
+	}
+
+	private static Set<String> findServersWithFiles(Set<String> candidates) {
+		Map<String, IContentType[]> contentTypes = new HashMap<>();
+		for (String name : candidates) {
+			contentTypes.put(name, Arrays.stream(SERVERS.get(name).contentTypes())
+					.map(Platform.getContentTypeManager()::getContentType).filter(Objects::nonNull)
+					.toArray(IContentType[]::new));
+		}
+		Set<String> found = new HashSet<>();
+		try {
+			ResourcesPlugin.getWorkspace().getRoot().accept(proxy -> {
+				if (found.size() == contentTypes.size()) {
+					return false;
+				}
+				if (proxy.getType() == IResource.FILE) {
+					IContentType[] fileTypes = Platform.getContentTypeManager().findContentTypesFor(proxy.getName());
+					contentTypes.forEach((name, types) -> {
+						if (!found.contains(name) && Arrays.stream(fileTypes)
+								.anyMatch(fileType -> Arrays.stream(types).anyMatch(fileType::isKindOf))) {
+							found.add(name);
+						}
+					});
+					return false;
+				}
+				return !proxy.isDerived() && !"node_modules".equals(proxy.getName()); //$NON-NLS-1$
+			}, IResource.NONE);
+		} catch (CoreException e) {
+			ILog.get().warn("Cannot scan workspace for language servers to start: " + e.getMessage()); //$NON-NLS-1$
+		}
+		return found;
+	}
+
+	/**
+	 * Starts the standby process of the given pooled server, if not started yet.
+	 *
+	 * @param name
+	 *                 name of the server, one of <code>json</code>,
+	 *                 <code>yaml</code>, <code>css</code> and <code>html</code>
+	 * @return whether a standby process is running
+	 */
+	public static boolean prepare(String name) {
+		PooledServer server = SERVERS.get(name);
+		if (server == null) {
+			return false;
+		}
+		synchronized (standbys) {
+			Standby standby = standbys.get(name);
+			if (standby != null && standby.process().isAlive()) {
+				return true;
+			}
+		}
+		// the launcher would not take a process over
+		if (NodeHost.isEnabled()) {
+			return false;
+		}
+		List<String> commands = server.commands().get();
+		if (commands == null) {
+			return false;
+		}
+		// as built by LSP4E for the launcher
+		ProcessBuilder builder = new ProcessBuilder(commands);
+		builder.directory(new File(System.getProperty("user.dir"))); //$NON-NLS-1$
+		builder.redirectError(Redirect.INHERIT);
+		String serverName = server.type().getSimpleName();
+		ManagedProcessStreamConnectionProvider.configure(builder, serverName,
+				LanguageServersPreferenceConstants.getMaxMemory(serverName));
+		Process process;
+		try {
+			process = builder.start();
+		} catch (IOException e) {
+			ILog.get().warn("Cannot start standby " + serverName + ": " + e.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+			return false;
+		}
+		Standby standby = new Standby(builder.command(), getDirectory(builder), process);
+		synchronized (standbys) {
+			Standby previous = standbys.put(name, standby);
+			if (previous != null) {
+				previous.process().destroy();
+			}
+		}
+		Job expiry = Job.create("Stopping unused " + name + " language server", monitor -> { //$NON-NLS-1$ //$NON-NLS-2$
+			synchronized (standbys) {
+				if (standbys.remove(name, standby)) {
+					standby.process().destroy();
+				}
+			}
+		});
+		expiry.setSystem(true);
+		expiry.schedule(STANDBY_TIMEOUT);
+		return true;
+	}
+
+	/**
+	 * @return whether a standby process of the given server is running
+	 */
+	public static boolean hasStandby(String name) {
+		synchronized (standbys) {
+			Standby standby = standbys.get(name);
+			return standby != null && standby.process().isAlive();
+		}
+	}
+
+	/**
+	 * Hands the standby process of the server over to its launcher, if it runs
+	 * the same command as the launcher would.
+	 *
+	 * @return the standby process, or null if the launcher has to start one
+	 */
+	static Process take(ManagedProcessStreamConnectionProvider provider) {
+		String name = getName(provider);
+		if (name == null) {
+			return null;
+		}
+		Standby standby;
+		synchronized (standbys) {
+			standby = standbys.remove(name);
+		}
+		if (standby == null) {
+			return null;
+		}
+		ProcessBuilder builder = provider.createProcessBuilder();
+		if (standby.process().isAlive() && standby.command().equals(builder.command())
+				&& Objects.equals(standby.directory(), getDirectory(builder))) {
+			return standby.process();
+		}
+		standby.process().destroy();
+		return null;
+	}
+
+	private static String getName(ManagedProcessStreamConnectionProvider provider) {
+		for (Map.Entry<String, PooledServer> entry : SERVERS.entrySet()) {
+			if (entry.getValue().type() == provider.getClass()) {
+				return entry.getKey();
+			}
+		}
+		return null;
+	}
+
+	private static String getDirectory(ProcessBuilder builder) {
+		return builder.directory() != null ? builder.directory().getAbsolutePath() : null;
+	}
+
+	/**
+	 * Stops all standby processes.
+	 */
+	public static void dispose() {
+		synchronized (standbys) {
+			standbys.values().forEach(standby -> standby.process().destroy());
+			standbys.clear();
+		}
+	}
+}
@@ -0,0 +1,106 @@
+#!/usr/bin/env node
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+// Runs several Node.js language servers in one process, each in its own worker thread.
+//
+// The standard streams of the host carry frames of:
+//   type (1 byte) | channel (uint32 BE) | payload length (uint32 BE) | payload
+// with the types:
+//   0 CONTROL  JSON control message, client→host {"op":"open","main":..,"args":[..],"maxMemory":..}
+//              or {"op":"close"},
+//              host→client {"op":"exit","code":..} once the worker of the channel ended
+//   1 DATA     client→host: stdin of the worker, host→client: stdout of the worker
+//   2 ERROR    host→client: stderr of the worker
+//
+// A worker sees its channel as process.stdin/process.stdout, so a server started with `--stdio` runs
+// unchanged, and process.exit() from the server only ends its worker.
+
+const { Worker } = require('worker_threads');
+
+const HEADER_LENGTH = 9;
+const CONTROL = 0;
+const DATA = 1;
+const ERROR = 2;
+
+const workers = new Map();
+
+let input = Buffer.alloc(0);
+process.stdin.on('data', chunk => {
+  input = input.length === 0 ? chunk : Buffer.concat([input, chunk]);
+  while (input.length >= HEADER_LENGTH) {
+    const length = input.readUInt32BE(5);
+    if (input.length < HEADER_LENGTH + length) {
+      break;
+    }
+    const type = input[0];
+    const channel = input.readUInt32BE(1);
+    const payload = input.subarray(HEADER_LENGTH, HEADER_LENGTH + length);
+    input = input.subarray(HEADER_LENGTH + length);
+    handleFrame(type, channel, payload);
+  }
+});
+// Eclipse went away: stop all servers
+process.stdin.on('end', () => process.exit(0));
+
+function send(type, channel, payload) {
+  const header = Buffer.alloc(HEADER_LENGTH);
+  header[0] = type;
+  header.writeUInt32BE(channel, 1);
+  header.writeUInt32BE(payload.length, 5);
+  process.stdout.write(Buffer.concat([header, payload]));
+}
+
+function handleFrame(type, channel, payload) {
+  if (type === DATA) {
+    const worker = workers.get(channel);
+    if (worker) {
+      worker.stdin.write(payload);
+    }
+  } else if (type === CONTROL) {
+    const message = JSON.parse(payload.toString('utf8'));
+    if (message.op === 'open') {
+      open(channel, message.main, message.args || [], message.maxMemory);
+    } else if (message.op === 'close') {
+      close(channel);
+    }
+  }
+}
+
+function open(channel, main, args, maxMemory) {
+  const options = { argv: args, stdin: true, stdout: true, stderr: true };
+  if (maxMemory > 0) {
+    options.resourceLimits = { maxOldGenerationSizeMb: maxMemory };
+  }
+  let worker;
+  try {
+    worker = new Worker(main, options);
+  } catch (e) {
+    send(ERROR, channel, Buffer.from(String((e && e.stack) || e) + '\n'));
+    send(CONTROL, channel, Buffer.from(JSON.stringify({ op: 'exit', code: 1 })));
+    return;
+  }
+  workers.set(channel, worker);
+  worker.stdout.on('data', data => send(DATA, channel, data));
+  worker.stderr.on('data', data => send(ERROR, channel, data));
+  worker.on('error', e => send(ERROR, channel, Buffer.from(String((e && e.stack) || e) + '\n')));
+  worker.on('exit', code => {
+    workers.delete(channel);
+    send(CONTROL, channel, Buffer.from(JSON.stringify({ op: 'exit', code })));
+  });
+}
+
+function close(channel) {
+  const worker = workers.get(channel);
+  if (worker) {
+    worker.stdin.end();
+    worker.terminate();
+  }
+}
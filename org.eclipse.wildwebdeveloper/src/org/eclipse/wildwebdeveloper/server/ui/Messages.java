@@ -0,0 +1,36 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wildwebdeveloper.server.ui;
+
+import org.eclipse.osgi.util.NLS;
+
+/**
+ * Language servers messages keys.
+ *
+ */
+public class Messages extends NLS {
+
+	// --------- Language servers preference page
+	public static String LanguageServersPreferencePage_description;
+	public static String LanguageServersPreferencePage_idleTimeout;
+	public static String LanguageServersPreferencePage_maxProcesses;
+	public static String LanguageServersPreferencePage_maxTotalMemory;
+	public static String LanguageServersPreferencePage_sharedInstances;
+	public static String LanguageServersPreferencePage_maxMemory;
+
+	// --------- Suspended language servers
+	public static String SuspendedServers_title;
+	public static String SuspendedServers_message;
+	public static String SuspendedServers_retry;
+
+	static {
+		NLS.initializeMessages("org.eclipse.wildwebdeveloper.server.ui.messages", Messages.class); //$NON-NLS-1$
+	}
+}
@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wildwebdeveloper.server.ui;
+
+import org.eclipse.jface.notifications.NotificationPopup;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.events.SelectionListener;
+import org.eclipse.swt.widgets.Link;
+import org.eclipse.ui.PlatformUI;
+import org.eclipse.wildwebdeveloper.server.CrashLoopGuard;
+import org.eclipse.wildwebdeveloper.server.CrashLoopGuard.Suspension;
+import org.eclipse.wildwebdeveloper.server.ui.preferences.LanguageServersPreferenceConstants;
+
+/**
+ * Notification shown when a language server is suspended by the
+ * {@link CrashLoopGuard}, with a link to retry it now.
+ */
+public final class SuspendedServerNotification {
+
+	private SuspendedServerNotification() {
+	}
+
+	/**
+	 * Shows the suspension of the given server, from any thread.
+	 */
+	public static void show(String serverName, Suspension suspension) {
+		if (!PlatformUI.isWorkbenchRunning()) {
+			return;
+		}
+		String label = LanguageServersPreferenceConstants.SERVERS.getOrDefault(serverName, serverName);
+		long seconds = (suspension.until() - System.currentTimeMillis() + 999) / 1000;
+		String message = NLS.bind(Messages.SuspendedServers_message,
+				new Object[] { label, suspension.crashes(), seconds });
+		PlatformUI.getWorkbench().getDisplay().asyncExec(() -> NotificationPopup
+				.forDisplay(PlatformUI.getWorkbench().getDisplay()).title(Messages.SuspendedServers_title, true)
+				.content(parent -> {
+					Link link = new Link(parent, SWT.WRAP);
+					link.setText(message + " <a>" + Messages.SuspendedServers_retry + "</a>"); //$NON-NLS-1$ //$NON-NLS-2$
+					link.addSelectionListener(
+							SelectionListener.widgetSelectedAdapter(e -> CrashLoopGuard.retry(serverName)));
+					return link;
+				}).open());
+	}
+}
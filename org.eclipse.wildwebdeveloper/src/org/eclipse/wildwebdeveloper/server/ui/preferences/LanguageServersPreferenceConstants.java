@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wildwebdeveloper.server.ui.preferences;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.jface.preference.IPreferenceStore;
+import org.eclipse.wildwebdeveloper.Activator;
+import org.eclipse.wildwebdeveloper.xml.internal.shared.IdleStop;
+
+/**
+ * Preferences shared by all the language servers.
+ *
+ */
+public class LanguageServersPreferenceConstants {
+
+	/**
+	 * Minutes a language server keeps running without open documents, 0 to keep
+	 * it running. Also read by the XML language server, through {@link IdleStop}.
+	 */
+	public static final String LANGUAGE_SERVERS_PREFERENCES_IDLE_TIMEOUT = IdleStop.IDLE_TIMEOUT_PREFERENCE;
+
+	/**
+	 * Maximum number of running language servers, 0 for no limit.
+	 */
+	public static final String LANGUAGE_SERVERS_PREFERENCES_MAX_PROCESSES = "languageServers.maxProcesses"; //$NON-NLS-1$
+
+	/**
+	 * Maximum resident memory in megabytes of all the language server
+	 * processes, 0 for no limit.
+	 */
+	public static final String LANGUAGE_SERVERS_PREFERENCES_MAX_TOTAL_MEMORY = "languageServers.maxTotalMemory"; //$NON-NLS-1$
+
+	/**
+	 * Whether the servers supporting it serve all projects from one process.
+	 */
+	public static final String LANGUAGE_SERVERS_PREFERENCES_SHARED_INSTANCES = "languageServers.sharedInstances"; //$NON-NLS-1$
+
+	private static final String LANGUAGE_SERVERS_PREFERENCES_MAX_MEMORY = "languageServers.%s.maxMemory"; //$NON-NLS-1$
+
+	public static final int IDLE_TIMEOUT_DEFAULT = IdleStop.IDLE_TIMEOUT_DEFAULT;
+
+	/**
+	 * Labels of the servers having a heap limit, by server name.
+	 */
+	public static final Map<String, String> SERVERS = new LinkedHashMap<>();
+	static {
+		SERVERS.put("JSTSLanguageServer", "JavaScript/TypeScript"); //$NON-NLS-1$ //$NON-NLS-2$
+		SERVERS.put("ESLintLanguageServer", "ESLint"); //$NON-NLS-1$ //$NON-NLS-2$
+		SERVERS.put("JSonLanguageServer", "JSON"); //$NON-NLS-1$ //$NON-NLS-2$
+		SERVERS.put("YAMLLanguageServer", "YAML"); //$NON-NLS-1$ //$NON-NLS-2$
+		SERVERS.put("CSSLanguageServer", "CSS/LESS/SCSS"); //$NON-NLS-1$ //$NON-NLS-2$
+		SERVERS.put("HTMLLanguageServer", "HTML"); //$NON-NLS-1$ //$NON-NLS-2$
+		SERVERS.put("MarkdownLanguageServer", "Markdown"); //$NON-NLS-1$ //$NON-NLS-2$
+		SERVERS.put("VueLanguageServer", "Vue"); //$NON-NLS-1$ //$NON-NLS-2$
+		SERVERS.put("AngularLanguageServer", "Angular"); //$NON-NLS-1$ //$NON-NLS-2$
+		SERVERS.put("AstroLanguageServer", "Astro"); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	public static String getMaxMemoryPreference(String serverName) {
+		return String.format(LANGUAGE_SERVERS_PREFERENCES_MAX_MEMORY, serverName);
+	}
+
+	/**
+	 * @return the heap limit in megabytes of the given server, 0 for the default
+	 */
+	public static int getMaxMemory(String serverName) {
+		return Math.max(0, Activator.getDefault().getPreferenceStore().getInt(getMaxMemoryPreference(serverName)));
+	}
+
+	/**
+	 * @return the maximum number of running language servers, 0 for no limit
+	 */
+	public static int getMaxProcesses() {
+		return Math.max(0, Activator.getDefault().getPreferenceStore().getInt(LANGUAGE_SERVERS_PREFERENCES_MAX_PROCESSES));
+	}
+
+	/**
+	 * @return the maximum resident memory in megabytes of all the language
+	 *         servers, 0 for no limit
+	 */
+	public static long getMaxTotalMemory() {
+		return Math.max(0, Activator.getDefault().getPreferenceStore().getInt(LANGUAGE_SERVERS_PREFERENCES_MAX_TOTAL_MEMORY));
+	}
+
+	/**
+	 * @return whether the servers supporting it serve all projects from one
+	 *         process
+	 */
+	public static boolean isSharedInstances() {
+		return Activator.getDefault().getPreferenceStore().getBoolean(LANGUAGE_SERVERS_PREFERENCES_SHARED_INSTANCES);
+	}
+
+	public static void initializeDefaultPreferences() {
+		IPreferenceStore store = Activator.getDefault().getPreferenceStore();
+		store.setDefault(LANGUAGE_SERVERS_PREFERENCES_IDLE_TIMEOUT, IDLE_TIMEOUT_DEFAULT);
+		store.setDefault(LANGUAGE_SERVERS_PREFERENCES_MAX_PROCESSES, 0);
+		store.setDefault(LANGUAGE_SERVERS_PREFERENCES_MAX_TOTAL_MEMORY, 0);
+		store.setDefault(LANGUAGE_SERVERS_PREFERENCES_SHARED_INSTANCES, false);
+		for (String serverName : SERVERS.keySet()) {
+			store.setDefault(getMaxMemoryPreference(serverName), 0);
+		}
+	}
+}
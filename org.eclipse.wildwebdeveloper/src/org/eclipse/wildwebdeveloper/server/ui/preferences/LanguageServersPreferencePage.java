@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wildwebdeveloper.server.ui.preferences;
+
+import static org.eclipse.wildwebdeveloper.server.ui.preferences.LanguageServersPreferenceConstants.LANGUAGE_SERVERS_PREFERENCES_IDLE_TIMEOUT;
+import static org.eclipse.wildwebdeveloper.server.ui.preferences.LanguageServersPreferenceConstants.LANGUAGE_SERVERS_PREFERENCES_MAX_PROCESSES;
+import static org.eclipse.wildwebdeveloper.server.ui.preferences.LanguageServersPreferenceConstants.LANGUAGE_SERVERS_PREFERENCES_MAX_TOTAL_MEMORY;
+import static org.eclipse.wildwebdeveloper.server.ui.preferences.LanguageServersPreferenceConstants.LANGUAGE_SERVERS_PREFERENCES_SHARED_INSTANCES;
+
+import org.eclipse.jface.preference.BooleanFieldEditor;
+import org.eclipse.jface.preference.FieldEditorPreferencePage;
+import org.eclipse.jface.preference.IntegerFieldEditor;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.ui.IWorkbench;
+import org.eclipse.ui.IWorkbenchPreferencePage;
+import org.eclipse.wildwebdeveloper.Activator;
+import org.eclipse.wildwebdeveloper.server.ui.Messages;
+
+/**
+ * Language servers preference page.
+ *
+ */
+public class LanguageServersPreferencePage extends FieldEditorPreferencePage implements IWorkbenchPreferencePage {
+
+	public LanguageServersPreferencePage() {
+		super(GRID);
+	}
+
+	@Override
+	public void init(IWorkbench workbench) {
+		setPreferenceStore(Activator.getDefault().getPreferenceStore());
+		setDescription(Messages.LanguageServersPreferencePage_description);
+	}
+
+	@Override
+	protected void createFieldEditors() {
+		IntegerFieldEditor idleTimeout = new IntegerFieldEditor(LANGUAGE_SERVERS_PREFERENCES_IDLE_TIMEOUT,
+				Messages.LanguageServersPreferencePage_idleTimeout, getFieldEditorParent());
+		idleTimeout.setValidRange(0, Integer.MAX_VALUE);
+		addField(idleTimeout);
+
+		IntegerFieldEditor maxProcesses = new IntegerFieldEditor(LANGUAGE_SERVERS_PREFERENCES_MAX_PROCESSES,
+				Messages.LanguageServersPreferencePage_maxProcesses, getFieldEditorParent());
+		maxProcesses.setValidRange(0, Integer.MAX_VALUE);
+		addField(maxProcesses);
+
+		IntegerFieldEditor maxTotalMemory = new IntegerFieldEditor(LANGUAGE_SERVERS_PREFERENCES_MAX_TOTAL_MEMORY,
+				Messages.LanguageServersPreferencePage_maxTotalMemory, getFieldEditorParent());
+		maxTotalMemory.setValidRange(0, Integer.MAX_VALUE);
+		addField(maxTotalMemory);
+
+		addField(new BooleanFieldEditor(LANGUAGE_SERVERS_PREFERENCES_SHARED_INSTANCES,
+				Messages.LanguageServersPreferencePage_sharedInstances, getFieldEditorParent()));
+
+		LanguageServersPreferenceConstants.SERVERS.forEach((serverName, label) -> {
+			IntegerFieldEditor maxMemory = new IntegerFieldEditor(
+					LanguageServersPreferenceConstants.getMaxMemoryPreference(serverName),
+					NLS.bind(Messages.LanguageServersPreferencePage_maxMemory, label), getFieldEditorParent());
+			maxMemory.setValidRange(0, Integer.MAX_VALUE);
+			addField(maxMemory);
+		});
+	}
+
+}
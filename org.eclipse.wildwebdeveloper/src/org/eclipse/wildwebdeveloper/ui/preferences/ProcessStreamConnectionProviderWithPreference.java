@@ -18,38 +18,32 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
-import org.eclipse.core.resources.IProject;
-import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jface.preference.IPreferenceStore;
-import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.util.IPropertyChangeListener;
 import org.eclipse.jface.util.PropertyChangeEvent;
-import org.eclipse.lsp4e.LSPEclipseUtils;
-import org.eclipse.lsp4e.LanguageServers;
-import org.eclipse.lsp4e.LanguageServersRegistry;
-import org.eclipse.lsp4e.LanguageServersRegistry.LanguageServerDefinition;
 import org.eclipse.lsp4e.server.ProcessStreamConnectionProvider;
 import org.eclipse.lsp4j.DidChangeConfigurationParams;
 import org.eclipse.lsp4j.services.LanguageServer;
 import org.eclipse.lsp4j.services.WorkspaceService;
-import org.eclipse.ui.IEditorPart;
-import org.eclipse.ui.IEditorReference;
-import org.eclipse.ui.IWorkbenchPage;
-import org.eclipse.ui.IWorkbenchWindow;
-import org.eclipse.ui.PlatformUI;
+import org.eclipse.wildwebdeveloper.server.ManagedProcessStreamConnectionProvider;
+import org.eclipse.wildwebdeveloper.server.RunningLanguageServers;
+import org.eclipse.wildwebdeveloper.xml.internal.shared.SettingsPushes;
 
 /**
  * This class extends {@link ProcessStreamConnectionProvider} to manage
  * {@link IPreferenceStore} and call
  * {@link WorkspaceService#didChangeConfiguration(DidChangeConfigurationParams)}
  * when the preference store changes.
- *
+ * <p>
+ * The changes of the preferences within {@link #NOTIFICATION_DELAY}, like all
+ * the preferences changed by Apply in a preference page, are sent in a single
+ * notification to each server, from a job.
+ * </p>
  */
-public abstract class ProcessStreamConnectionProviderWithPreference extends ProcessStreamConnectionProvider
+public abstract class ProcessStreamConnectionProviderWithPreference extends ManagedProcessStreamConnectionProvider
 		implements IPropertyChangeListener {
 
 	private static class PreferenceStoreKey {
@@ -112,6 +106,11 @@ public abstract class ProcessStreamConnectionProviderWithPreference extends Proc
 
 	}
 
+	static final long NOTIFICATION_DELAY = 200;
+
+	private static final AtomicLong sentNotifications = new AtomicLong();
+	private static final AtomicLong coalescedNotifications = new AtomicLong();
+
 	// Map used to store a single property change listener for a given
 	// preferenceStore/languageServerId
 	private static final Map<PreferenceStoreKey, PropertyChangeListenerWrapper> listenerPerLanguageServer = new HashMap<>();
@@ -120,12 +119,17 @@ public abstract class ProcessStreamConnectionProviderWithPreference extends Proc
 
 	private final String[] supportedSections;
 
-	private LanguageServerDefinition languageServerDefinition;
+	private final Job notificationJob;
 
 	public ProcessStreamConnectionProviderWithPreference(String languageServerId, IPreferenceStore preferenceStore,
 			String[] supportedSections) {
 		this.preferenceStoreKey = new PreferenceStoreKey(preferenceStore, languageServerId);
 		this.supportedSections = supportedSections;
+		this.notificationJob = Job.create("Notify " + languageServerId + " of preference changes", //$NON-NLS-1$
+				monitor -> {
+					notifyServers();
+				});
+		this.notificationJob.setSystem(true);
 	}
 
 	@Override
@@ -170,82 +174,38 @@ public abstract class ProcessStreamConnectionProviderWithPreference extends Proc
 	@Override
 	public void propertyChange(PropertyChangeEvent event) {
 		if (isAffected(event)) {
-		   LanguageServerDefinition languageServerDefinition = getLanguageServerDefinition();
-			DidChangeConfigurationParams params = new DidChangeConfigurationParams(createSettings());
-
-			/*
-			 * Fan-out strategy and rationale
-			 * --------------------------------
-			 * We must deliver didChangeConfiguration to every running instance of the
-			 * language server for this provider's id, regardless of how LSP4E can find it.
-			 * LSP4E discovery varies by scope, so we notify in 3 passes and de-duplicate:
-			 * 1) Workspace-wide (null project): catches singleton or workspace-folder-aware servers.
-			 * 2) Per-project: picks up per-project servers that don't expose workspace folders (eg JSTS).
-			 * 3) Per-document (open editors): covers files outside the workspace or not yet tied to a project.
-			 *
-			 * Note: withPreferredServer(...) only reorders candidates; it does not filter.
-			 * We therefore compare wrapper.serverDefinition for equality and track already
-			 * notified LanguageServer proxies to avoid duplicate notifications across scopes.
-			 * excludeInactive() is intentional to avoid starting servers as a side-effect
-			 * of a preference change.
-			 */
-
-			final Set<LanguageServer> notifiedServers = ConcurrentHashMap.newKeySet();
-
-			// 1) Workspace-wide: singleton or workspace-folder-aware servers
-			LanguageServers.forProject(null).withPreferredServer(languageServerDefinition).excludeInactive()
-					.collectAll((wrapper, server) -> {
-						if (languageServerDefinition.equals(wrapper.serverDefinition) && notifiedServers.add(server)) {
-							server.getWorkspaceService().didChangeConfiguration(params);
-						}
-						return CompletableFuture.completedFuture(null);
-					});
-
-			// 2) Per-project: include servers that don't support workspace folders (they won't be returned by forProject(null))
-			for (final IProject project : ResourcesPlugin.getWorkspace().getRoot().getProjects()) {
-				if (!project.isOpen())
-					continue;
-
-				LanguageServers.forProject(project).withPreferredServer(languageServerDefinition).excludeInactive()
-						.collectAll((wrapper, server) -> {
-							if (languageServerDefinition.equals(wrapper.serverDefinition) && notifiedServers.add(server)) {
-								server.getWorkspaceService().didChangeConfiguration(params);
-							}
-							return CompletableFuture.completedFuture(null);
-						});
+			// a notification still waiting sends this change too
+			if (notificationJob.getState() == Job.SLEEPING && notificationJob.cancel()) {
+				coalescedNotifications.incrementAndGet();
 			}
+			notificationJob.schedule(NOTIFICATION_DELAY);
+		}
+	}
 
-			// 3) Per-document: open editors (covers external files or untied docs)
-			for (final IWorkbenchWindow win : PlatformUI.getWorkbench().getWorkbenchWindows()) {
-				for (final IWorkbenchPage page : win.getPages()) {
-					for (final IEditorReference ref : page.getEditorReferences()) {
-					   final IEditorPart editor = ref.getEditor(false); // do not restore unopened editors
-						if (editor == null)
-							continue;
-
-						final IDocument doc = LSPEclipseUtils.getDocument(editor.getEditorInput());
-						if (doc == null)
-							continue;
-
-						LanguageServers.forDocument(doc).withPreferredServer(languageServerDefinition)
-								.collectAll((wrapper, server) -> {
-									if (languageServerDefinition.equals(wrapper.serverDefinition) && notifiedServers.add(server)) {
-										server.getWorkspaceService().didChangeConfiguration(params);
-									}
-									return CompletableFuture.completedFuture(null);
-								});
-					}
-				}
+	private void notifyServers() {
+		Object settings = createSettings();
+		// every running instance, whichever projects and documents it serves
+		for (LanguageServer server : RunningLanguageServers.get(getClass())) {
+			if (SettingsPushes.push(server, settings)) {
+				sentNotifications.incrementAndGet();
 			}
 		}
 	}
 
-	private LanguageServerDefinition getLanguageServerDefinition() {
-		if (languageServerDefinition == null) {
-			languageServerDefinition = LanguageServersRegistry.getInstance()
-					.getDefinition(preferenceStoreKey.languageServerId);
-		}
-		return languageServerDefinition;
+	/**
+	 * @return the number of didChangeConfiguration notifications sent to the
+	 *         language servers
+	 */
+	public static long getSentNotifications() {
+		return sentNotifications.get();
+	}
+
+	/**
+	 * @return the number of preference changes sent along with a later change,
+	 *         in the same notification
+	 */
+	public static long getCoalescedNotifications() {
+		return coalescedNotifications.get();
 	}
 
 	protected boolean isAffected(PropertyChangeEvent event) {
@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wildwebdeveloper.ui.preferences;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.eclipse.jface.util.IPropertyChangeListener;
+import org.eclipse.wildwebdeveloper.Activator;
+
+/**
+ * Immutable {@link Settings} of a language, precomputed for each section the
+ * language servers may ask for in <code>workspace/configuration</code>
+ * requests.
+ * <p>
+ * The settings are built once, then shared by all configuration requests
+ * until the preferences change: {@link #findSettings(String)} is then a
+ * lookup in a map, without lock nor allocation. Any change of the preferences
+ * of Wild Web Developer increments the {@link #getVersion() version} of the
+ * settings, and the snapshots are built again on their next lookup.
+ * </p>
+ */
+public final class SettingsSnapshot {
+
+	private static final AtomicLong version = new AtomicLong();
+	private static final IPropertyChangeListener invalidator = event -> invalidate();
+	private static volatile boolean listening;
+
+	private record Snapshot(long version, Map<String, Object> sections) {
+	}
+
+	private final Supplier<Settings> factory;
+	private volatile Snapshot snapshot;
+
+	/**
+	 * @param factory
+	 *                    builds the settings from the preferences
+	 */
+	public SettingsSnapshot(Supplier<Settings> factory) {
+		this.factory = factory;
+	}
+
+	/**
+	 * @return the immutable settings of the given section, like
+	 *         <code>css</code> or <code>css.lint</code>, or <code>null</code> if
+	 *         there are none
+	 */
+	public Object findSettings(String section) {
+		Snapshot current = snapshot;
+		if (current == null || current.version() != version.get()) {
+			current = refresh();
+		}
+		return current.sections().get(section);
+	}
+
+	private synchronized Snapshot refresh() {
+		listen();
+		// read before the preferences, a change while building them is not lost
+		long currentVersion = version.get();
+		Snapshot current = snapshot;
+		if (current == null || current.version() != currentVersion) {
+			Map<String, Object> sections = new HashMap<>();
+			freeze(null, factory.get(), sections);
+			current = new Snapshot(currentVersion, sections);
+			snapshot = current;
+		}
+		return current;
+	}
+
+	private static Map<String, Object> freeze(String path, Map<?, ?> settings, Map<String, Object> sections) {
+		Map<String, Object> frozen = new LinkedHashMap<>();
+		settings.forEach((key, value) -> {
+			if (value instanceof Map<?, ?> map) {
+				String section = path == null ? key.toString() : path + '.' + key;
+				frozen.put(key.toString(), freeze(section, map, sections));
+			} else {
+				frozen.put(key.toString(), value);
+			}
+		});
+		Map<String, Object> result = Collections.unmodifiableMap(frozen);
+		if (path != null) {
+			sections.put(path, result);
+		}
+		return result;
+	}
+
+	private static synchronized void listen() {
+		if (!listening) {
+			listening = true;
+			Activator.getDefault().getPreferenceStore().addPropertyChangeListener(invalidator);
+		}
+	}
+
+	/**
+	 * @return the version of the settings, incremented when the preferences
+	 *         change
+	 */
+	public static long getVersion() {
+		return version.get();
+	}
+
+	/**
+	 * Builds all the snapshots again on their next lookup, for settings not
+	 * read from the preferences store.
+	 */
+	public static void invalidate() {
+		version.incrementAndGet();
+	}
+}
@@ -27,7 +27,6 @@ import org.eclipse.lsp4j.MessageParams;
 import org.eclipse.lsp4j.MessageType;
 import org.eclipse.wildwebdeveloper.css.ui.preferences.CSSPreferenceServerConstants;
 import org.eclipse.wildwebdeveloper.html.ui.preferences.HTMLPreferenceServerConstants;
-import org.eclipse.wildwebdeveloper.ui.preferences.Settings;
 
 public class VueClientImpl extends DefaultLanguageClient implements VueLanguageServerExtension {
 
@@ -68,12 +67,10 @@ public class VueClientImpl extends DefaultLanguageClient implements VueLanguageS
 				String section = item.getSection();
 				if (isMatchHtmlSection(section)) {
 					// 'html' section, returns the html settings
-					Settings htmlSettings = HTMLPreferenceServerConstants.getGlobalSettings();
-					settings.add(htmlSettings.findSettings(section.split("[.]")));
+					settings.add(HTMLPreferenceServerConstants.findSettings(section));
 				} else if (isMatchCssSection(section)) {
 					// 'css' section, returns the css settings
-					Settings cssSettings = CSSPreferenceServerConstants.getGlobalSettings();
-					settings.add(cssSettings.findSettings(section.split("[.]")));
+					settings.add(CSSPreferenceServerConstants.findSettings(section));
 				} else if (section.equals("vue.suggest.defineAssignment")) {
 					settings.add(true);
 				} else if (section.equals("vue.suggest.propNameCasing")) {
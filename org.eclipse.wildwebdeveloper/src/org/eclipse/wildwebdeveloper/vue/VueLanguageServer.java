@@ -26,7 +26,6 @@ import org.eclipse.core.runtime.FileLocator;
 import org.eclipse.core.runtime.ILog;
 import org.eclipse.lsp4e.LSPEclipseUtils;
 import org.eclipse.lsp4e.LanguageServers;
-import org.eclipse.lsp4e.server.ProcessStreamConnectionProvider;
 import org.eclipse.lsp4j.ExecuteCommandParams;
 import org.eclipse.lsp4j.jsonrpc.messages.Message;
 import org.eclipse.lsp4j.jsonrpc.messages.NotificationMessage;
@@ -34,8 +33,9 @@ import org.eclipse.lsp4j.services.LanguageServer;
 import org.eclipse.wildwebdeveloper.embedder.node.NodeJSManager;
 import org.eclipse.wildwebdeveloper.jsts.JSTSLanguageServerAPI;
 import org.eclipse.wildwebdeveloper.jsts.request.ExecuteInfo;
+import org.eclipse.wildwebdeveloper.server.ManagedProcessStreamConnectionProvider;
 
-public class VueLanguageServer extends ProcessStreamConnectionProvider {
+public class VueLanguageServer extends ManagedProcessStreamConnectionProvider {
 	private static String vuePath = null;
 	private static String TS_REQUEST = "tsserver/request"; 
 
@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wildwebdeveloper.yaml;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.wildwebdeveloper.SchemaMirror;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+/**
+ * The YAML schemas of the schema store catalog, as associations for the
+ * <code>yaml.schemas</code> setting.
+ * <p>
+ * The catalog is downloaded once in the {@link SchemaMirror}, then compiled
+ * once for each version of the local copy: only the entries with YAML file
+ * patterns are kept, so the YAML servers get a few hundred associations
+ * instead of downloading and parsing the whole catalog on each start.
+ * </p>
+ */
+public final class SchemaStoreCatalog {
+
+	private record Compiled(Path file, FileTime modified, Map<String, List<String>> associations) {
+	}
+
+	private static final Pattern YAML_EXTENSION = Pattern
+			.compile(".*\\.(ya?ml|\\{([^}]*,)?ya?ml(,[^}]*)?\\})"); //$NON-NLS-1$
+	private static final Pattern YAML_DOT_FILE = Pattern.compile("\\.[^.]*ya?ml[^.]*"); //$NON-NLS-1$
+
+	private static volatile Compiled compiled;
+
+	private SchemaStoreCatalog() {
+	}
+
+	/**
+	 * @return the unmodifiable file patterns by schema URL of the YAML schemas
+	 *         of the given catalog, or <code>null</code> while the catalog is
+	 *         not downloaded
+	 */
+	public static Map<String, List<String>> getAssociations(String catalogURL) {
+		SchemaMirror mirror = SchemaMirror.getDefault();
+		if (mirror == null) {
+			return null;
+		}
+		String localURL = mirror.toLocalURL(catalogURL);
+		if (!localURL.startsWith("file:")) { //$NON-NLS-1$
+			return null;
+		}
+		Path file = Path.of(URI.create(localURL));
+		try {
+			FileTime modified = Files.getLastModifiedTime(file);
+			Compiled current = compiled;
+			if (current == null || !current.file().equals(file) || !current.modified().equals(modified)) {
+				try (Reader reader = Files.newBufferedReader(file)) {
+					current = new Compiled(file, modified, compile(reader));
+				}
+				compiled = current;
+			}
+			return current.associations();
+		} catch (IOException | JsonParseException | IllegalStateException e) {
+			ILog.get().warn("Could not read the schema store catalog " + catalogURL, e); //$NON-NLS-1$
+			return null;
+		}
+	}
+
+	/**
+	 * @return the unmodifiable YAML file patterns by schema URL of the given
+	 *         catalog
+	 */
+	public static Map<String, List<String>> compile(Reader catalog) {
+		Map<String, List<String>> associations = new LinkedHashMap<>();
+		JsonArray schemas = JsonParser.parseReader(catalog).getAsJsonObject().getAsJsonArray("schemas"); //$NON-NLS-1$
+		if (schemas == null) {
+			return Map.of();
+		}
+		for (JsonElement element : schemas) {
+			JsonObject schema = element.getAsJsonObject();
+			JsonElement url = schema.get("url"); //$NON-NLS-1$
+			JsonElement fileMatch = schema.get("fileMatch"); //$NON-NLS-1$
+			if (url == null || fileMatch == null || !fileMatch.isJsonArray()) {
+				continue;
+			}
+			List<String> patterns = new ArrayList<>();
+			for (JsonElement pattern : fileMatch.getAsJsonArray()) {
+				if (isYAML(pattern.getAsString())) {
+					patterns.add(pattern.getAsString());
+				}
+			}
+			if (!patterns.isEmpty()) {
+				associations.computeIfAbsent(url.getAsString(), key -> new ArrayList<>()).addAll(patterns);
+			}
+		}
+		associations.replaceAll((url, patterns) -> List.copyOf(patterns));
+		return Collections.unmodifiableMap(associations);
+	}
+
+	/*
+	 * Matches on the file name, the last segment of the pattern: on its extension
+	 * like *.yml or *.{yml,yaml}, or on the whole name of dot files like
+	 * .yamllint.
+	 */
+	private static boolean isYAML(String pattern) {
+		String name = pattern.substring(pattern.lastIndexOf('/') + 1).toLowerCase(Locale.ROOT);
+		return YAML_EXTENSION.matcher(name).matches() || YAML_DOT_FILE.matcher(name).matches();
+	}
+}
@@ -18,15 +18,18 @@ import java.util.List;
 import org.eclipse.core.runtime.FileLocator;
 import org.eclipse.core.runtime.ILog;
 import org.eclipse.jface.util.PropertyChangeEvent;
-import org.eclipse.lsp4j.DidChangeConfigurationParams;
 import org.eclipse.lsp4j.InitializeResult;
 import org.eclipse.lsp4j.jsonrpc.messages.Message;
 import org.eclipse.lsp4j.jsonrpc.messages.ResponseMessage;
 import org.eclipse.lsp4j.services.LanguageServer;
 import org.eclipse.wildwebdeveloper.Activator;
 import org.eclipse.wildwebdeveloper.SchemaAssociationsPreferenceInitializer;
+import org.eclipse.wildwebdeveloper.SchemaMirror;
 import org.eclipse.wildwebdeveloper.embedder.node.NodeJSManager;
+import org.eclipse.wildwebdeveloper.server.RunningLanguageServers;
 import org.eclipse.wildwebdeveloper.ui.preferences.ProcessStreamConnectionProviderWithPreference;
+import org.eclipse.wildwebdeveloper.ui.preferences.SettingsSnapshot;
+import org.eclipse.wildwebdeveloper.xml.internal.shared.SettingsPushes;
 import org.eclipse.wildwebdeveloper.yaml.ui.preferences.YAMLPreferenceServerConstants;
 
 /**
@@ -39,32 +42,74 @@ public class YAMLLanguageServer extends ProcessStreamConnectionProviderWithPrefe
 
 	private static final String[] SUPPORTED_SECTIONS = { "yaml" };
 
+	// the settings hold the schema associations, with the URLs of the mirrored schemas
+	private static final Runnable SCHEMA_MIRROR_LISTENER = () -> {
+		SettingsSnapshot.invalidate();
+		Object settings = YAMLPreferenceServerConstants.getGlobalSettings();
+		for (LanguageServer ls : RunningLanguageServers.get(YAMLLanguageServer.class)) {
+			SettingsPushes.push(ls, settings);
+		}
+	};
+
 	public YAMLLanguageServer() {
 		super(YAML_LANGUAGE_SERVER_ID, Activator.getDefault().getPreferenceStore(), SUPPORTED_SECTIONS);
+		List<String> commands = createCommands();
+		if (commands != null) {
+			setCommands(commands);
+			setWorkingDirectory(System.getProperty("user.dir"));
+		}
+	}
+
+	/**
+	 * @return the command line starting the server, or null if the server
+	 *         cannot be found
+	 */
+	public static List<String> createCommands() {
 		List<String> commands = new ArrayList<>();
 		commands.add(NodeJSManager.getNodeJsLocation().getAbsolutePath());
 		try {
-			URL url = FileLocator
-					.toFileURL(getClass().getResource("/node_modules/yaml-language-server/out/server/src/server.js"));
+			URL url = FileLocator.toFileURL(
+					YAMLLanguageServer.class.getResource("/node_modules/yaml-language-server/out/server/src/server.js"));
 			commands.add(new java.io.File(url.getPath()).getAbsolutePath());
 			commands.add("--stdio");
-			setCommands(commands);
-			setWorkingDirectory(System.getProperty("user.dir"));
+			return commands;
 		} catch (IOException e) {
 			ILog.get().error(e.getMessage(), e);
+			return null;
 		}
 	}
 
+	@Override
+	public void start() throws IOException {
+		super.start();
+		SchemaMirror mirror = SchemaMirror.getDefault();
+		if (mirror != null) {
+			mirror.addListener(SCHEMA_MIRROR_LISTENER);
+		}
+	}
+
+	@Override
+	public void stop() {
+		SchemaMirror mirror = SchemaMirror.getDefault();
+		if (mirror != null) {
+			mirror.removeListener(SCHEMA_MIRROR_LISTENER);
+		}
+		super.stop();
+	}
+
+	@Override
+	protected boolean canRunInNodeHost() {
+		return true;
+	}
+
 	@Override
 	public void handleMessage(Message message, LanguageServer languageServer, URI rootUri) {
 		if (message instanceof ResponseMessage responseMessage) {
 			if (responseMessage.getResult() instanceof InitializeResult) {
-				Object settings = createSettings();
-
-				DidChangeConfigurationParams params = new DidChangeConfigurationParams(settings);
-				languageServer.getWorkspaceService().didChangeConfiguration(params);
+				SettingsPushes.push(languageServer, createSettings());
 			}
 		}
+		super.handleMessage(message, languageServer, rootUri);
 	}
 
 	@Override
@@ -18,7 +18,6 @@ import java.util.concurrent.CompletableFuture;
 import org.eclipse.lsp4e.client.DefaultLanguageClient;
 import org.eclipse.lsp4j.ConfigurationItem;
 import org.eclipse.lsp4j.ConfigurationParams;
-import org.eclipse.wildwebdeveloper.ui.preferences.Settings;
 import org.eclipse.wildwebdeveloper.yaml.ui.preferences.YAMLPreferenceServerConstants;
 
 /**
@@ -36,8 +35,7 @@ public class YamlLanguageClientImpl extends DefaultLanguageClient {
 				if (isMatchYamlSection(section)) {
 					// See https://github.com/redhat-developer/yaml-language-server/blob/c4b56b155eae1b8aa53817b7caef7dd1032b93ff/src/languageserver/handlers/settingsHandlers.ts#L42
 					// 'yaml' section, returns the yaml settings
-					Settings yamlSettings = YAMLPreferenceServerConstants.getGlobalSettings();
-					settings.add(yamlSettings.findSettings(section.split("[.]")));
+					settings.add(YAMLPreferenceServerConstants.findSettings(section));
 				} else {
 					// TODO manage another section like http, [yaml], editor, files
 					// See https://github.com/redhat-developer/yaml-language-server/blob/c4b56b155eae1b8aa53817b7caef7dd1032b93ff/src/languageserver/handlers/settingsHandlers.ts#L43
@@ -15,7 +15,10 @@ package org.eclipse.wildwebdeveloper.yaml.ui.preferences;
 import static org.eclipse.wildwebdeveloper.ui.preferences.Settings.isMatchSection;
 
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.core.runtime.Platform;
@@ -27,6 +30,8 @@ import org.eclipse.wildwebdeveloper.SchemaAssociationRegistry;
 import org.eclipse.wildwebdeveloper.SchemaAssociationsPreferenceInitializer;
 import org.eclipse.wildwebdeveloper.json.JSonLanguageServer;
 import org.eclipse.wildwebdeveloper.ui.preferences.Settings;
+import org.eclipse.wildwebdeveloper.ui.preferences.SettingsSnapshot;
+import org.eclipse.wildwebdeveloper.yaml.SchemaStoreCatalog;
 
 import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
@@ -38,6 +43,7 @@ import com.google.gson.reflect.TypeToken;
 public class YAMLPreferenceServerConstants {
 
 	private static final String YAML_SECTION = "yaml";
+	private static final SettingsSnapshot SETTINGS = new SettingsSnapshot(YAMLPreferenceServerConstants::getGlobalSettings);
 
 	public static final String YAML_PREFERENCES_SCHEMAS = "yaml.schemas";
 	public static final String YAML_PREFERENCES_SCHEMASTORE_ENABLE = "yaml.schemaStore.enable";
@@ -70,9 +76,14 @@ public class YAMLPreferenceServerConstants {
 	public static Settings getGlobalSettings() {
 		Settings settings = new Settings(getPreferenceStore());
 
-		settings.fillSetting(YAML_PREFERENCES_SCHEMAS,
-				getSchemaAssociations(Activator.getDefault().getPreferenceStore()));
-		settings.fillAsBoolean(YAML_PREFERENCES_SCHEMASTORE_ENABLE);
+		Map<String, Object> schemas = getSchemaAssociations(Activator.getDefault().getPreferenceStore());
+		boolean schemaStoreEnabled = getPreferenceStore().getBoolean(YAML_PREFERENCES_SCHEMASTORE_ENABLE);
+		// once the catalog is downloaded, the servers do not process it again
+		if (schemaStoreEnabled && addSchemaStoreAssociations(schemas)) {
+			schemaStoreEnabled = false;
+		}
+		settings.fillSetting(YAML_PREFERENCES_SCHEMAS, schemas);
+		settings.fillSetting(YAML_PREFERENCES_SCHEMASTORE_ENABLE, schemaStoreEnabled);
 		settings.fillAsString(YAML_PREFERENCES_SCHEMASTORE_URL);
 		settings.fillAsInt(YAML_PREFERENCES_MAXITEMSCOMPUTED);
 
@@ -134,6 +145,14 @@ public class YAMLPreferenceServerConstants {
 		store.setDefault(YAML_PREFERENCES_STYLE_FLOWSEQUENCE, "allow");
 	}
 
+	/**
+	 * @return the immutable yaml settings of the given section, shared by all
+	 *         configuration requests until the preferences change
+	 */
+	public static Object findSettings(String section) {
+		return SETTINGS.findSettings(section);
+	}
+
 	/**
 	 * Returns true if the given section matches YAML settings and false otherwise.
 	 * 
@@ -161,19 +180,20 @@ public class YAMLPreferenceServerConstants {
 		contentTypeAssociations.forEach((key, value) -> {
 			IContentType contentType = contentTypeManager.getContentType(key);
 			if (contentType != null && contentType.getBaseType().equals(yamlBaseContentType)) {
+				String url = SchemaAssociationRegistry.translate(value.toString());
 				String[] fileNames = contentType.getFileSpecs(IContentType.FILE_NAME_SPEC);
 				for (String fileName : fileNames) {
-					associations.put(value.toString(), fileName);
+					associations.put(url, fileName);
 				}
 
 				String[] filePatterns = contentType.getFileSpecs(IContentType.FILE_PATTERN_SPEC);
 				for (String pattern : filePatterns) {
-					associations.put(value.toString(), pattern);
+					associations.put(url, pattern);
 				}
 
 				String[] fileExtensions = contentType.getFileSpecs(IContentType.FILE_EXTENSION_SPEC);
 				for (String extension : fileExtensions) {
-					associations.put(value.toString(), "*." + extension);
+					associations.put(url, "*." + extension);
 				}
 			}
 		});
@@ -191,6 +211,29 @@ public class YAMLPreferenceServerConstants {
 		return associations;
 	}
 
+	/**
+	 * Adds the YAML schemas of the schema store catalog, for the file patterns
+	 * without associated schema.
+	 *
+	 * @return whether the catalog is downloaded
+	 */
+	private static boolean addSchemaStoreAssociations(Map<String, Object> associations) {
+		Map<String, List<String>> catalog = SchemaStoreCatalog
+				.getAssociations(getPreferenceStore().getString(YAML_PREFERENCES_SCHEMASTORE_URL));
+		if (catalog == null) {
+			return false;
+		}
+		Set<Object> associatedPatterns = new HashSet<>(associations.values());
+		catalog.forEach((url, patterns) -> {
+			List<String> catalogPatterns = patterns.stream().filter(pattern -> !associatedPatterns.contains(pattern))
+					.toList();
+			if (!catalogPatterns.isEmpty()) {
+				associations.putIfAbsent(url, catalogPatterns);
+			}
+		});
+		return true;
+	}
+
 	public static IPreferenceStore getPreferenceStore() {
 		return Activator.getDefault().getPreferenceStore();
 	}